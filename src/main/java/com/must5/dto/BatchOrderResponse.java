@@ -0,0 +1,71 @@
+package com.must5.dto;
+
+import java.util.List;
+
+/**
+ * Summary of a batch create request with the per-order outcome
+ */
+public class BatchOrderResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchOrderResult> results;
+
+    public BatchOrderResponse() {
+    }
+
+    public BatchOrderResponse(int total, int succeeded, int failed, List<BatchOrderResult> results) {
+        this.total = total;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public static BatchOrderResponse of(List<BatchOrderResult> results) {
+        int succeeded = (int) results.stream().filter(BatchOrderResult::isCreated).count();
+        return new BatchOrderResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchOrderResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchOrderResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchOrderResponse{" +
+                "total=" + total +
+                ", succeeded=" + succeeded +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package com.must5.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a single order inside a batch create request
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOrderResult {
+
+    public static final String STATUS_CREATED = "CREATED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private int index;
+    private String status;
+    private Long orderId;
+    private BigDecimal totalAmount;
+    private String message;
+    private Map<String, List<String>> errors;
+
+    public BatchOrderResult() {
+    }
+
+    public BatchOrderResult(int index, String status, Long orderId, BigDecimal totalAmount,
+                            String message, Map<String, List<String>> errors) {
+        this.index = index;
+        this.status = status;
+        this.orderId = orderId;
+        this.totalAmount = totalAmount;
+        this.message = message;
+        this.errors = errors;
+    }
+
+    // Static factory methods
+    public static BatchOrderResult created(int index, Long orderId, BigDecimal totalAmount) {
+        return new BatchOrderResult(index, STATUS_CREATED, orderId, totalAmount, "order created successfully", null);
+    }
+
+    public static BatchOrderResult failed(int index, String message, Map<String, List<String>> errors) {
+        return new BatchOrderResult(index, STATUS_FAILED, null, null, message, errors);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @JsonProperty("orderId")
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    @JsonProperty("totalAmount")
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Map<String, List<String>> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, List<String>> errors) {
+        this.errors = errors;
+    }
+
+    @JsonIgnore
+    public boolean isCreated() {
+        return STATUS_CREATED.equals(status);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchOrderResult{" +
+                "index=" + index +
+                ", status='" + status + '\'' +
+                ", orderId=" + orderId +
+                ", totalAmount=" + totalAmount +
+                ", message='" + message + '\'' +
+                ", errors=" + errors +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.must5.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+
+public class CustomerRank {
+
+    private String customerName;
+    private long rank;
+    private BigDecimal totalSpending;
+    private long totalCustomers;
+
+    public CustomerRank() {
+    }
+
+    public CustomerRank(String customerName, long rank, BigDecimal totalSpending, long totalCustomers) {
+        this.customerName = customerName;
+        this.rank = rank;
+        this.totalSpending = totalSpending;
+        this.totalCustomers = totalCustomers;
+    }
+
+    @JsonProperty("customerName")
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    @JsonProperty("rank")
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    @JsonProperty("totalSpending")
+    public BigDecimal getTotalSpending() {
+        return totalSpending;
+    }
+
+    public void setTotalSpending(BigDecimal totalSpending) {
+        this.totalSpending = totalSpending;
+    }
+
+    @JsonProperty("totalCustomers")
+    public long getTotalCustomers() {
+        return totalCustomers;
+    }
+
+    public void setTotalCustomers(long totalCustomers) {
+        this.totalCustomers = totalCustomers;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerRank{" +
+                "customerName='" + customerName + '\'' +
+                ", rank=" + rank +
+                ", totalSpending=" + totalSpending +
+                '}';
+    }
+}
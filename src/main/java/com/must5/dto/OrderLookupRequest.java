@@ -0,0 +1,33 @@
+package com.must5.dto;
+
+import java.util.List;
+
+/**
+ * Body of POST /orders/lookup
+ */
+public class OrderLookupRequest {
+
+    private List<Long> ids;
+
+    public OrderLookupRequest() {
+    }
+
+    public OrderLookupRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderLookupRequest{" +
+                "ids=" + ids +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.must5.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Orders found by a multi-get, in the order they were requested, and the ids that do not exist
+ */
+public class OrderLookupResponse {
+
+    private List<OrderResponse> orders;
+    private List<Long> missingIds;
+
+    public OrderLookupResponse() {
+    }
+
+    public OrderLookupResponse(List<OrderResponse> orders, List<Long> missingIds) {
+        this.orders = orders;
+        this.missingIds = missingIds;
+    }
+
+    // Duplicate ids are answered once
+    public static OrderLookupResponse of(List<Long> requestedIds, List<OrderResponse> found) {
+        Map<Long, OrderResponse> byId = found.stream()
+                .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+        List<OrderResponse> orders = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(requestedIds)) {
+            OrderResponse order = byId.get(id);
+            if (order != null) {
+                orders.add(order);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new OrderLookupResponse(orders, missingIds);
+    }
+
+    // Getters and Setters
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderResponse> orders) {
+        this.orders = orders;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderLookupResponse{" +
+                "orders=" + orders +
+                ", missingIds=" + missingIds +
+                '}';
+    }
+}
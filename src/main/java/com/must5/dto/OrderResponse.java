@@ -1,12 +1,16 @@
 package com.must5.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+// Fields left out of a sparse fieldset (?fields=) are null and not serialized
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrderResponse {
 
     private Long id;
@@ -32,6 +36,12 @@ public class OrderResponse {
         this.updatedAt = updatedAt;
     }
 
+    // Used by the read-only projection queries, items are attached afterwards
+    public OrderResponse(Long id, String customerName, LocalDate orderDate,
+                        java.math.BigDecimal totalAmount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, customerName, orderDate, totalAmount, new ArrayList<>(), createdAt, updatedAt);
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,46 @@
+package com.must5.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+
+public class OrderSearchHit {
+
+    private BigDecimal score;
+    private OrderResponse order;
+
+    public OrderSearchHit() {
+    }
+
+    public OrderSearchHit(BigDecimal score, OrderResponse order) {
+        this.score = score;
+        this.order = order;
+    }
+
+    // Trigram similarity (0..1) of the best matching customer or product name
+    @JsonProperty("score")
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    public void setScore(BigDecimal score) {
+        this.score = score;
+    }
+
+    @JsonProperty("order")
+    public OrderResponse getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderResponse order) {
+        this.order = order;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderSearchHit{" +
+                "score=" + score +
+                ", order=" + order +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.must5.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductSales {
+
+    private String productName;
+    private LocalDate orderDate;
+    private long totalQuantity;
+    private BigDecimal revenue;
+    private long orderCount;
+
+    public ProductSales() {
+    }
+
+    public ProductSales(String productName, LocalDate orderDate, long totalQuantity, BigDecimal revenue, long orderCount) {
+        this.productName = productName;
+        this.orderDate = orderDate;
+        this.totalQuantity = totalQuantity;
+        this.revenue = revenue;
+        this.orderCount = orderCount;
+    }
+
+    @JsonProperty("productName")
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    // Only set for per-day results
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonProperty("orderDate")
+    public LocalDate getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(LocalDate orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    @JsonProperty("totalQuantity")
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public void setTotalQuantity(long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    @JsonProperty("revenue")
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @JsonProperty("orderCount")
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSales{" +
+                "productName='" + productName + '\'' +
+                ", orderDate=" + orderDate +
+                ", totalQuantity=" + totalQuantity +
+                ", revenue=" + revenue +
+                ", orderCount=" + orderCount +
+                '}';
+    }
+}
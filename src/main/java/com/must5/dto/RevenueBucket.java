@@ -0,0 +1,72 @@
+package com.must5.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class RevenueBucket {
+
+    private LocalDate periodStart;
+    private long totalOrders;
+    private BigDecimal revenue;
+    private long distinctCustomers;
+
+    public RevenueBucket() {
+    }
+
+    public RevenueBucket(LocalDate periodStart, long totalOrders, BigDecimal revenue, long distinctCustomers) {
+        this.periodStart = periodStart;
+        this.totalOrders = totalOrders;
+        this.revenue = revenue;
+        this.distinctCustomers = distinctCustomers;
+    }
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonProperty("periodStart")
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    @JsonProperty("totalOrders")
+    public long getTotalOrders() {
+        return totalOrders;
+    }
+
+    public void setTotalOrders(long totalOrders) {
+        this.totalOrders = totalOrders;
+    }
+
+    @JsonProperty("revenue")
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @JsonProperty("distinctCustomers")
+    public long getDistinctCustomers() {
+        return distinctCustomers;
+    }
+
+    public void setDistinctCustomers(long distinctCustomers) {
+        this.distinctCustomers = distinctCustomers;
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueBucket{" +
+                "periodStart=" + periodStart +
+                ", totalOrders=" + totalOrders +
+                ", revenue=" + revenue +
+                ", distinctCustomers=" + distinctCustomers +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.must5.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class TrendingProduct {
+
+    private String productName;
+    private long estimatedQuantity;
+    private long maxOverestimate;
+
+    public TrendingProduct() {
+    }
+
+    public TrendingProduct(String productName, long estimatedQuantity, long maxOverestimate) {
+        this.productName = productName;
+        this.estimatedQuantity = estimatedQuantity;
+        this.maxOverestimate = maxOverestimate;
+    }
+
+    @JsonProperty("productName")
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    @JsonProperty("estimatedQuantity")
+    public long getEstimatedQuantity() {
+        return estimatedQuantity;
+    }
+
+    public void setEstimatedQuantity(long estimatedQuantity) {
+        this.estimatedQuantity = estimatedQuantity;
+    }
+
+    @JsonProperty("maxOverestimate")
+    public long getMaxOverestimate() {
+        return maxOverestimate;
+    }
+
+    public void setMaxOverestimate(long maxOverestimate) {
+        this.maxOverestimate = maxOverestimate;
+    }
+
+    @Override
+    public String toString() {
+        return "TrendingProduct{" +
+                "productName='" + productName + '\'' +
+                ", estimatedQuantity=" + estimatedQuantity +
+                ", maxOverestimate=" + maxOverestimate +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.must5.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Customer name dictionary. Orders reference it through customer_id, which the
+ * trg_orders_customer_id trigger fills when the writer did not, so it is never
+ * written through Hibernate.
+ */
+@Entity
+@Immutable
+@Table(name = "customers")
+public class Customer {
+
+    /**
+     * HQL subquery resolving the :customerName parameter to its id. Filtering on
+     * {@code customerId = } this keeps the API name based while the orders table is
+     * searched through the customer_id indexes.
+     */
+    public static final String ID_BY_NAME = "(SELECT c.id FROM Customer c WHERE c.name = :customerName)";
+
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false, unique = true)
+    private String name;
+
+    public Customer() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "Customer{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
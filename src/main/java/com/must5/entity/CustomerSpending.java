@@ -1,14 +1,44 @@
 package com.must5.entity;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
+/**
+ * Spending summary per customer. Mapped read-only on the customer_spending table,
+ * which the database keeps up to date on every order insert, update and delete.
+ */
+@Entity
+@Immutable
+@Table(name = "customer_spending")
 public class CustomerSpending {
 
+    @Id
+    @Column(name = "customer_name")
     private String customerName;
+
+    @Column(name = "total_spending")
     private BigDecimal totalSpending;
 
+    @Column(name = "total_orders")
+    private Long totalOrders;
+
+    @Column(name = "average_order_value")
+    private BigDecimal averageOrderValue;
+
+    @Column(name = "first_order_date")
+    private LocalDate firstOrderDate;
+
+    @Column(name = "last_order_date")
+    private LocalDate lastOrderDate;
+
     public CustomerSpending() {
     }
 
@@ -35,11 +65,50 @@ public class CustomerSpending {
         this.totalSpending = totalSpending;
     }
 
+    @JsonProperty("totalOrders")
+    public Long getTotalOrders() {
+        return totalOrders;
+    }
+
+    public void setTotalOrders(Long totalOrders) {
+        this.totalOrders = totalOrders;
+    }
+
+    @JsonProperty("averageOrderValue")
+    public BigDecimal getAverageOrderValue() {
+        return averageOrderValue;
+    }
+
+    public void setAverageOrderValue(BigDecimal averageOrderValue) {
+        this.averageOrderValue = averageOrderValue;
+    }
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonProperty("firstOrderDate")
+    public LocalDate getFirstOrderDate() {
+        return firstOrderDate;
+    }
+
+    public void setFirstOrderDate(LocalDate firstOrderDate) {
+        this.firstOrderDate = firstOrderDate;
+    }
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @JsonProperty("lastOrderDate")
+    public LocalDate getLastOrderDate() {
+        return lastOrderDate;
+    }
+
+    public void setLastOrderDate(LocalDate lastOrderDate) {
+        this.lastOrderDate = lastOrderDate;
+    }
+
     @Override
     public String toString() {
         return "CustomerSpending{" +
                 "customerName='" + customerName + '\'' +
                 ", totalSpending=" + totalSpending +
+                ", totalOrders=" + totalOrders +
                 '}';
     }
-}
\ No newline at end of file
+}
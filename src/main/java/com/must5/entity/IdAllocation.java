@@ -0,0 +1,19 @@
+package com.must5.entity;
+
+/**
+ * Sequence settings shared by the blocking and the reactive entity hierarchies.
+ * Order/ReactiveOrder and OrderItem/ReactiveOrderItem map the same tables, so they
+ * draw ids from the same sequences using pooled-lo blocks: every nextval call reserves
+ * [value, value + ALLOCATION_SIZE) for the caller.
+ */
+public final class IdAllocation {
+
+    public static final String ORDERS_SEQUENCE = "orders_seq";
+    public static final String ORDER_ITEMS_SEQUENCE = "order_items_seq";
+
+    // Must match INCREMENT BY of both sequences (see V11__Pooled_lo_id_allocation.sql)
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdAllocation() {
+    }
+}
@@ -1,38 +1,69 @@
 package com.must5.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.must5.pagination.OrderCursor;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.panache.common.Parameters;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.jpa.HibernateHints;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Entity
+@Cacheable
 @Table(name = "orders")
 @NamedQueries({
     @NamedQuery(
         name = "Order.findByCustomerName",
-        query = "SELECT o FROM Order o WHERE o.customerName = :customerName ORDER BY o.orderDate DESC"
+        query = "SELECT o FROM Order o WHERE o.customerId = " + Customer.ID_BY_NAME + " ORDER BY o.orderDate DESC",
+        hints = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Order.QUERY_CACHE_REGION)
+        }
     ),
     @NamedQuery(
         name = "Order.findByDateRange",
-        query = "SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.orderDate DESC"
+        query = "SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.orderDate DESC",
+        hints = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Order.QUERY_CACHE_REGION)
+        }
     )
 })
-public class Order extends PanacheEntity {
+public class Order extends PanacheEntityBase {
+
+    // Query cache region of the named queries above, evicted on every order change (see SecondLevelCacheEviction)
+    public static final String QUERY_CACHE_REGION = "orders-queries";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_id_generator")
+    @SequenceGenerator(name = "order_id_generator", sequenceName = IdAllocation.ORDERS_SEQUENCE, allocationSize = IdAllocation.ALLOCATION_SIZE)
+    public Long id;
 
     @NotBlank(message = "Customer name is required")
     @Column(name = "customer_name", nullable = false)
     private String customerName;
 
+    // Filled by trg_orders_customer_id when left null
+    @JsonIgnore
+    @Column(name = "customer_id")
+    private Long customerId;
+
     @NotNull(message = "Order date is required")
     @JsonFormat(pattern = "yyyy-MM-dd")
     @Column(name = "order_date", nullable = false)
@@ -45,6 +76,7 @@ public class Order extends PanacheEntity {
     private BigDecimal totalAmount;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<OrderItem> items = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -114,14 +146,62 @@ public class Order extends PanacheEntity {
                              .and("endDate", endDate)).list();
     }
 
-    // Query untuk menampilkan total belanja per customer
-    public static List<CustomerSpending> getTotalSpendingPerCustomer() {
+    // Keyset pagination: seek past the cursor instead of using OFFSET, customerName is optional
+    public static List<Order> findWithCursor(String customerName, OrderCursor cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = cursor.seekParameters();
+        if (customerName != null) {
+            conditions.add("customerId = " + Customer.ID_BY_NAME);
+            params.put("customerName", customerName);
+        }
+        if (!cursor.isFirstPage()) {
+            conditions.add(cursor.seekCondition());
+        }
+
+        if (conditions.isEmpty()) {
+            return findAll(cursor.sort()).range(0, limit - 1).list();
+        }
+        return find(String.join(" AND ", conditions), cursor.sort(), params)
+                .range(0, limit - 1).list();
+    }
+
+    public static long countByCustomerName(String customerName) {
+        return count("customerId = " + Customer.ID_BY_NAME, Parameters.with("customerName", customerName));
+    }
+
+    // Loads the items of all given orders with a single fetch join instead of one lazy load per order
+    public static List<Order> withItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        List<Long> ids = orders.stream().map(order -> order.id).collect(Collectors.toList());
+        List<Order> loaded = find("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN ?1", ids).list();
+        Map<Long, Order> byId = loaded.stream().collect(Collectors.toMap(order -> order.id, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // Planner estimate of the row count, avoids a full COUNT(*) on large tables
+    public static long estimateCount() {
+        Number estimate = (Number) getEntityManager()
+                .createNativeQuery("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('orders')")
+                .getSingleResult();
+        return estimate != null ? estimate.longValue() : -1;
+    }
+
+    // Query untuk menampilkan total belanja per customer (satu halaman, dari tabel customer_spending)
+    public static List<CustomerSpending> getTotalSpendingPerCustomer(int pageIndex, int pageSize) {
         return getEntityManager().createQuery(
-            "SELECT new com.must5.entity.CustomerSpending(o.customerName, SUM(o.totalAmount)) " +
-            "FROM Order o " +
-            "GROUP BY o.customerName " +
-            "ORDER BY SUM(o.totalAmount) DESC",
-            CustomerSpending.class).getResultList();
+            "FROM CustomerSpending ORDER BY totalSpending DESC, customerName",
+            CustomerSpending.class)
+            .setHint(org.hibernate.jpa.HibernateHints.HINT_READ_ONLY, true)
+            .setFirstResult(pageIndex * pageSize)
+            .setMaxResults(pageSize)
+            .getResultList();
+    }
+
+    public static long countCustomers() {
+        return getEntityManager().createQuery("SELECT COUNT(*) FROM CustomerSpending", Long.class)
+            .getSingleResult();
     }
 
     // Getters and Setters
@@ -133,6 +213,14 @@ public class Order extends PanacheEntity {
         this.customerName = customerName;
     }
 
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
     public LocalDate getOrderDate() {
         return orderDate;
     }
@@ -1,7 +1,7 @@
 package com.must5.entity;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -11,8 +11,14 @@ import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
 @Entity
+@Cacheable
 @Table(name = "order_items")
-public class OrderItem extends PanacheEntity {
+public class OrderItem extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_id_generator")
+    @SequenceGenerator(name = "order_item_id_generator", sequenceName = IdAllocation.ORDER_ITEMS_SEQUENCE, allocationSize = IdAllocation.ALLOCATION_SIZE)
+    public Long id;
 
     @NotBlank(message = "Product name is required")
     @Column(name = "product_name", nullable = false)
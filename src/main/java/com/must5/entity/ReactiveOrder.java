@@ -1,7 +1,10 @@
 package com.must5.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
 import io.quarkus.panache.common.Parameters;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.*;
@@ -16,25 +19,39 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "orders")
 @NamedQueries({
     @NamedQuery(
         name = "ReactiveOrder.findByCustomerName",
-        query = "SELECT o FROM ReactiveOrder o WHERE o.customerName = :customerName ORDER BY o.orderDate DESC"
+        query = "SELECT o FROM ReactiveOrder o WHERE o.customerId = " + Customer.ID_BY_NAME + " ORDER BY o.orderDate DESC"
     ),
     @NamedQuery(
         name = "ReactiveOrder.findByDateRange",
         query = "SELECT o FROM ReactiveOrder o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.orderDate DESC"
     )
 })
-public class ReactiveOrder extends PanacheEntity {
+public class ReactiveOrder extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reactive_order_id_generator")
+    @SequenceGenerator(name = "reactive_order_id_generator", sequenceName = IdAllocation.ORDERS_SEQUENCE, allocationSize = IdAllocation.ALLOCATION_SIZE)
+    public Long id;
 
     @NotBlank(message = "Customer name is required")
     @Column(name = "customer_name", nullable = false)
     private String customerName;
 
+    // Filled by trg_orders_customer_id when left null
+    @JsonIgnore
+    @Column(name = "customer_id")
+    private Long customerId;
+
     @NotNull(message = "Order date is required")
     @JsonFormat(pattern = "yyyy-MM-dd")
     @Column(name = "order_date", nullable = false)
@@ -116,25 +133,21 @@ public class ReactiveOrder extends PanacheEntity {
                              .and("endDate", endDate)).list();
     }
 
-    // Reactive method untuk menampilkan total belanja per customer
-    public static Uni<List<CustomerSpending>> getTotalSpendingPerCustomer() {
-        return findAll()
-            .list()
-            .map(orders -> {
-                java.util.Map<String, java.math.BigDecimal> customerTotals = new java.util.HashMap<>();
-                for (io.quarkus.hibernate.reactive.panache.PanacheEntityBase orderBase : orders) {
-                    ReactiveOrder order = (ReactiveOrder) orderBase;
-                    customerTotals.merge(
-                        order.getCustomerName(),
-                        order.getTotalAmount(),
-                        java.math.BigDecimal::add
-                    );
-                }
-                return customerTotals.entrySet().stream()
-                    .map(entry -> new CustomerSpending(entry.getKey(), entry.getValue()))
-                    .sorted((a, b) -> b.getTotalSpending().compareTo(a.getTotalSpending()))
-                    .collect(java.util.stream.Collectors.toList());
-            });
+    // Reactive method untuk menampilkan total belanja per customer (satu halaman, dari tabel customer_spending)
+    public static Uni<List<CustomerSpending>> getTotalSpendingPerCustomer(int pageIndex, int pageSize) {
+        return getSession()
+            .chain(session -> session.createSelectionQuery(
+                    "FROM CustomerSpending ORDER BY totalSpending DESC, customerName", CustomerSpending.class)
+                .setReadOnly(true)
+                .setFirstResult(pageIndex * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList());
+    }
+
+    public static Uni<Long> countCustomers() {
+        return getSession()
+            .chain(session -> session.createSelectionQuery("SELECT COUNT(*) FROM CustomerSpending", Long.class)
+                .getSingleResult());
     }
 
     // Reactive CRUD operations
@@ -150,20 +163,80 @@ public class ReactiveOrder extends PanacheEntity {
         return count();
     }
 
+    // Reactive sessions cannot lazy load, so items are fetched together with the orders
+    public static Uni<ReactiveOrder> findByIdWithItems(Long id) {
+        return find("SELECT o FROM ReactiveOrder o LEFT JOIN FETCH o.items WHERE o.id = ?1", id).firstResult();
+    }
+
+    // Loads the items of all given orders with a single fetch join instead of one query per order
+    public static Uni<List<ReactiveOrder>> withItems(List<ReactiveOrder> orders) {
+        if (orders.isEmpty()) {
+            return Uni.createFrom().item(orders);
+        }
+        List<Long> ids = orders.stream().map(order -> order.id).collect(Collectors.toList());
+        return find("SELECT DISTINCT o FROM ReactiveOrder o LEFT JOIN FETCH o.items WHERE o.id IN ?1", ids).<ReactiveOrder>list()
+                .map(loaded -> {
+                    Map<Long, ReactiveOrder> byId = loaded.stream()
+                            .collect(Collectors.toMap(order -> order.id, Function.identity()));
+                    return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+                });
+    }
+
+    // Planner estimate of the row count, avoids a full COUNT(*) on large tables
+    public static Uni<Long> estimateCount() {
+        return getSession()
+                .chain(session -> session.createNativeQuery(
+                        "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('orders')", Long.class)
+                        .getSingleResult());
+    }
+
+    // Items are loaded eagerly: a reactive session cannot lazy load them later
+    // sortBy must be one of the OrderSortField properties, id breaks ties
     public static Uni<List<ReactiveOrder>> findWithPagination(int pageIndex, int pageSize, String sortBy, String sortOrder) {
-        io.quarkus.panache.common.Sort.Direction direction = sortOrder.equalsIgnoreCase("desc") ?
-            io.quarkus.panache.common.Sort.Direction.Descending : io.quarkus.panache.common.Sort.Direction.Ascending;
-        io.quarkus.panache.common.Sort sort = io.quarkus.panache.common.Sort.by(sortBy, direction);
-        return findAll(sort).page(pageIndex, pageSize).list();
+        OrderCursor order = OrderCursor.first(OrderSortField.fromParam(sortBy), sortOrder.equalsIgnoreCase("desc"));
+        return findAll(order.sort()).page(pageIndex, pageSize).<ReactiveOrder>list().chain(ReactiveOrder::withItems);
     }
 
     public static Uni<List<ReactiveOrder>> findByCustomerNameWithPagination(String customerName, int pageIndex, int pageSize) {
-        return find("customerName = :customerName", Parameters.with("customerName", customerName))
+        return find("customerId = " + Customer.ID_BY_NAME, Parameters.with("customerName", customerName))
                 .page(pageIndex, pageSize).list();
     }
 
+    // Row range (inclusive) in the order of #ReactiveOrder.findByCustomerName
+    public static Uni<List<ReactiveOrder>> findByCustomerNameInRange(String customerName, int firstRow, int lastRow) {
+        return find("#ReactiveOrder.findByCustomerName", Parameters.with("customerName", customerName))
+                .range(firstRow, lastRow).list();
+    }
+
+    // Keyset variants: seek past the cursor instead of using OFFSET
+    public static Uni<List<ReactiveOrder>> findWithPagination(OrderCursor cursor, int limit) {
+        return findWithCursor(null, cursor, limit).chain(ReactiveOrder::withItems);
+    }
+
+    public static Uni<List<ReactiveOrder>> findByCustomerNameWithPagination(String customerName, OrderCursor cursor, int limit) {
+        return findWithCursor(customerName, cursor, limit);
+    }
+
+    private static Uni<List<ReactiveOrder>> findWithCursor(String customerName, OrderCursor cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = cursor.seekParameters();
+        if (customerName != null) {
+            conditions.add("customerId = " + Customer.ID_BY_NAME);
+            params.put("customerName", customerName);
+        }
+        if (!cursor.isFirstPage()) {
+            conditions.add(cursor.seekCondition());
+        }
+
+        if (conditions.isEmpty()) {
+            return findAll(cursor.sort()).range(0, limit - 1).list();
+        }
+        return find(String.join(" AND ", conditions), cursor.sort(), params)
+                .range(0, limit - 1).list();
+    }
+
     public static Uni<Long> countByCustomerName(String customerName) {
-        return count("customerName", customerName);
+        return count("customerId = " + Customer.ID_BY_NAME, Parameters.with("customerName", customerName));
     }
 
     // Getters and Setters
@@ -175,6 +248,14 @@ public class ReactiveOrder extends PanacheEntity {
         this.customerName = customerName;
     }
 
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
     public LocalDate getOrderDate() {
         return orderDate;
     }
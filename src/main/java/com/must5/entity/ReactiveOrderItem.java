@@ -1,6 +1,6 @@
 package com.must5.entity;
 
-import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -14,7 +14,12 @@ import java.util.List;
 
 @Entity
 @Table(name = "order_items")
-public class ReactiveOrderItem extends PanacheEntity {
+public class ReactiveOrderItem extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reactive_order_item_id_generator")
+    @SequenceGenerator(name = "reactive_order_item_id_generator", sequenceName = IdAllocation.ORDER_ITEMS_SEQUENCE, allocationSize = IdAllocation.ALLOCATION_SIZE)
+    public Long id;
 
     @NotBlank(message = "Product name is required")
     @Column(name = "product_name", nullable = false)
@@ -0,0 +1,60 @@
+package com.must5.event;
+
+import com.must5.entity.Order;
+import com.must5.entity.OrderItem;
+import com.must5.entity.ReactiveOrder;
+import com.must5.entity.ReactiveOrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fired by both resources when an order is created or deleted.
+ * Blocking writes fire it inside their transaction, so observers declared with
+ * {@code during = TransactionPhase.AFTER_SUCCESS} only see committed changes;
+ * reactive writes fire it once their transaction has committed.
+ * Product quantities are only filled for created orders, deleted orders may not have
+ * their items loaded.
+ */
+public record OrderChangedEvent(Type type, Long orderId, String customerName, LocalDate orderDate,
+                                BigDecimal totalAmount, Map<String, Integer> productQuantities) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    public static OrderChangedEvent created(Order order) {
+        return new OrderChangedEvent(Type.CREATED, order.id, order.getCustomerName(), order.getOrderDate(),
+                order.getTotalAmount(), productQuantities(order.getItems(), OrderItem::getProductName, OrderItem::getQuantity));
+    }
+
+    public static OrderChangedEvent created(ReactiveOrder order) {
+        return new OrderChangedEvent(Type.CREATED, order.id, order.getCustomerName(), order.getOrderDate(),
+                order.getTotalAmount(), productQuantities(order.getItems(), ReactiveOrderItem::getProductName, ReactiveOrderItem::getQuantity));
+    }
+
+    public static OrderChangedEvent deleted(Order order) {
+        return new OrderChangedEvent(Type.DELETED, order.id, order.getCustomerName(), order.getOrderDate(),
+                order.getTotalAmount(), Map.of());
+    }
+
+    public static OrderChangedEvent deleted(ReactiveOrder order) {
+        return new OrderChangedEvent(Type.DELETED, order.id, order.getCustomerName(), order.getOrderDate(),
+                order.getTotalAmount(), Map.of());
+    }
+
+    // Change of the customer's total spending caused by this event
+    public BigDecimal spendingDelta() {
+        return type == Type.CREATED ? totalAmount : totalAmount.negate();
+    }
+
+    private static <I> Map<String, Integer> productQuantities(List<I> items, Function<I, String> productName,
+                                                              Function<I, Integer> quantity) {
+        return items.stream().collect(Collectors.toMap(productName, quantity, Integer::sum));
+    }
+}
@@ -0,0 +1,38 @@
+package com.must5.event;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order changes made on another node, as received from the invalidation bus (see OrderChangeBus).
+ * Changes are merged per notification: deleted ids, the net spending change per customer and the
+ * quantities of created orders per product. A node whose changes do not fit in one notification
+ * splits them over several.
+ * <p>
+ * {@code overflow} is set when the node could not list its changes: {@link Overflow#CREATES} when
+ * they were only new orders (cached orders are still valid, spending and product totals are not
+ * known), {@link Overflow#ALL} when orders may also have been deleted or notifications may have
+ * been missed, so receivers should drop everything they derived from orders.
+ * Fired without a transaction, on a worker thread.
+ */
+public record RemoteOrderChanges(String node, Set<Long> deletedOrderIds, Map<String, BigDecimal> spendingDeltas,
+                                 Map<String, Integer> productQuantities, Overflow overflow) {
+
+    public enum Overflow {
+        NONE,
+        CREATES,
+        ALL
+    }
+
+    public static RemoteOrderChanges overflow(String node, Overflow overflow) {
+        return new RemoteOrderChanges(node, Set.of(), Map.of(), Map.of(), overflow);
+    }
+
+    /**
+     * Whether the spending and product changes are missing from this notification.
+     */
+    public boolean incomplete() {
+        return overflow != Overflow.NONE;
+    }
+}
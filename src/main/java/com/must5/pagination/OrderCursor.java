@@ -0,0 +1,119 @@
+package com.must5.pagination;
+
+import io.quarkus.panache.common.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Position in a keyset-paginated order listing.
+ * The client only sees the opaque token produced by {@link #encode()}, which carries
+ * the sort field, the direction and the (sort key, id) of the last row returned.
+ * The next page then seeks past that row through the index instead of skipping
+ * rows with OFFSET, so every page costs the same.
+ */
+public final class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final OrderSortField sortField;
+    private final boolean descending;
+    private final Object lastValue;
+    private final Long lastId;
+
+    private OrderCursor(OrderSortField sortField, boolean descending, Object lastValue, Long lastId) {
+        this.sortField = sortField;
+        this.descending = descending;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    public static OrderCursor first(OrderSortField sortField, boolean descending) {
+        return new OrderCursor(sortField, descending, null, null);
+    }
+
+    public OrderCursor next(Object lastValue, Long lastId) {
+        return new OrderCursor(sortField, descending, lastValue, lastId);
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 4);
+            if (parts.length != 4 || !("asc".equals(parts[1]) || "desc".equals(parts[1]))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            OrderSortField sortField = OrderSortField.valueOf(parts[0]);
+            Long lastId = Long.valueOf(parts[2]);
+            Object lastValue = sortField == OrderSortField.ID ? lastId : sortField.parseValue(parts[3]);
+            return new OrderCursor(sortField, "desc".equals(parts[1]), lastValue, lastId);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = sortField.name() + SEPARATOR + (descending ? "desc" : "asc") + SEPARATOR + lastId + SEPARATOR
+                + (sortField == OrderSortField.ID ? "" : lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    /**
+     * HQL condition that skips everything up to and including the last returned row,
+     * empty for the first page. Uses a row value comparison so Postgres can seek on the index.
+     */
+    public String seekCondition() {
+        if (isFirstPage()) {
+            return "";
+        }
+        String operator = descending ? "<" : ">";
+        if (sortField == OrderSortField.ID) {
+            return "id " + operator + " :lastId";
+        }
+        return "(" + sortField.getProperty() + ", id) " + operator + " (:lastValue, :lastId)";
+    }
+
+    public Map<String, Object> seekParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        if (!isFirstPage()) {
+            parameters.put("lastId", lastId);
+            if (sortField != OrderSortField.ID) {
+                parameters.put("lastValue", lastValue);
+            }
+        }
+        return parameters;
+    }
+
+    public Sort sort() {
+        Sort.Direction direction = descending ? Sort.Direction.Descending : Sort.Direction.Ascending;
+        Sort sort = Sort.by(sortField.getProperty(), direction);
+        if (sortField != OrderSortField.ID) {
+            sort.and("id", direction);
+        }
+        return sort;
+    }
+
+    public OrderSortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderCursor{" +
+                "sortField=" + sortField +
+                ", descending=" + descending +
+                ", lastValue=" + lastValue +
+                ", lastId=" + lastId +
+                '}';
+    }
+}
@@ -0,0 +1,103 @@
+package com.must5.pagination;
+
+import com.must5.dto.OrderResponse;
+import com.must5.entity.Order;
+import com.must5.entity.ReactiveOrder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The fields order listings can be sorted by, with offset or cursor pagination.
+ * Every field is paired with the id as tiebreaker, so (field, id) is unique, and is
+ * backed by an index on (field, id) that returns rows in that order without a sort.
+ * customerName is not sortable: it would need the customer_name index that the customers
+ * dictionary (V16) removed from orders.
+ */
+public enum OrderSortField {
+
+    ID("id", "id", "orders_pkey"),
+    CREATED_AT("createdAt", "created_at", "idx_orders_created_at_id"),
+    ORDER_DATE("orderDate", "order_date", "idx_orders_date_id"),
+    TOTAL_AMOUNT("totalAmount", "total_amount", "idx_orders_total_amount_id");
+
+    private final String property;
+    private final String column;
+    private final String index;
+
+    OrderSortField(String property, String column, String index) {
+        this.property = property;
+        this.column = column;
+        this.index = index;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    public static Optional<OrderSortField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+
+    public static OrderSortField fromParam(String property) {
+        return fromProperty(property)
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "Unsupported sort field '" + property + "'. Supported fields: " + supportedProperties()));
+    }
+
+    public static String supportedProperties() {
+        return Arrays.stream(values())
+                .map(OrderSortField::getProperty)
+                .collect(Collectors.joining(", "));
+    }
+
+    Object parseValue(String value) {
+        return switch (this) {
+            case ID -> Long.valueOf(value);
+            case CREATED_AT -> LocalDateTime.parse(value);
+            case ORDER_DATE -> LocalDate.parse(value);
+            case TOTAL_AMOUNT -> new BigDecimal(value);
+        };
+    }
+
+    public Object valueOf(Order order) {
+        return switch (this) {
+            case ID -> order.id;
+            case CREATED_AT -> order.getCreatedAt();
+            case ORDER_DATE -> order.getOrderDate();
+            case TOTAL_AMOUNT -> order.getTotalAmount();
+        };
+    }
+
+    public Object valueOf(ReactiveOrder order) {
+        return switch (this) {
+            case ID -> order.id;
+            case CREATED_AT -> order.getCreatedAt();
+            case ORDER_DATE -> order.getOrderDate();
+            case TOTAL_AMOUNT -> order.getTotalAmount();
+        };
+    }
+
+    public Object valueOf(OrderResponse order) {
+        return switch (this) {
+            case ID -> order.getId();
+            case CREATED_AT -> order.getCreatedAt();
+            case ORDER_DATE -> order.getOrderDate();
+            case TOTAL_AMOUNT -> order.getTotalAmount();
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.must5.pagination;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in ranked search results: the (score, order id) of the last hit returned.
+ * Scores are rounded to four decimals by the query so they survive the round trip
+ * through the token exactly.
+ */
+public final class SearchCursor {
+
+    private final BigDecimal lastScore;
+    private final Long lastId;
+
+    public SearchCursor(BigDecimal lastScore, Long lastId) {
+        this.lastScore = lastScore;
+        this.lastId = lastId;
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SearchCursor(new BigDecimal(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = lastScore.toPlainString() + "|" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BigDecimal getLastScore() {
+        return lastScore;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCursor{" +
+                "lastScore=" + lastScore +
+                ", lastId=" + lastId +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package com.must5.pagination;
+
+import java.util.Locale;
+
+/**
+ * How a paginated listing computes its total, chosen by the client with ?total=.
+ * EXACT runs a COUNT(*), ESTIMATE uses the planner statistics (or a short-lived
+ * cached count for filtered listings) and NONE skips the total altogether.
+ */
+public enum TotalMode {
+
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static TotalMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported total mode '" + value + "', use exact, estimate or none");
+        }
+    }
+
+    public String toParam() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.must5.replica;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.Response;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Stamps successful {@link PrimaryWrite} responses with X-Last-Write-LSN, the primary's WAL
+ * position read after the write committed, so clients can send it back on reads that must see
+ * the write. Reads through the reactive pool, so it does not block reactive endpoints.
+ */
+public class LastWriteFilter {
+
+    private static final Logger LOG = Logger.getLogger(LastWriteFilter.class);
+
+    @Inject
+    Pool primary;
+
+    @PrimaryWrite
+    @ServerResponseFilter
+    public Uni<Void> stamp(ContainerResponseContext response) {
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            return Uni.createFrom().voidItem();
+        }
+        return primary.query("SELECT pg_current_wal_lsn()::text")
+            .execute()
+            .map(rows -> rows.iterator().next().getString(0))
+            .onFailure().recoverWithItem(failure -> {
+                // No position to compare against: the client's next read stays on the primary
+                LOG.warnf(failure, "Could not read the WAL position of the primary");
+                return ReplicaMonitor.UNKNOWN_LSN;
+            })
+            .invoke(lsn -> response.getHeaders().putSingle(ReplicaRoutingFilter.LAST_WRITE_HEADER, lsn))
+            .replaceWithVoid();
+    }
+}
@@ -0,0 +1,18 @@
+package com.must5.replica;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an endpoint that writes orders. {@link LastWriteFilter} returns the primary's WAL
+ * position with its successful responses, for read-your-writes on {@link ReplicaRead} endpoints.
+ */
+@NameBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PrimaryWrite {
+}
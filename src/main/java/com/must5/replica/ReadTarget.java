@@ -0,0 +1,34 @@
+package com.must5.replica;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Where the reads of the current request go. Primary unless {@link ReplicaRoutingFilter}
+ * switched the request to the replica.
+ */
+@RequestScoped
+public class ReadTarget {
+
+    private boolean replica;
+
+    private Long lastWriteLsn;
+
+    public boolean isReplica() {
+        return replica;
+    }
+
+    /**
+     * WAL position of the client's last write (X-Last-Write-LSN), or null when the request does not need to see one.
+     */
+    public Long lastWriteLsn() {
+        return lastWriteLsn;
+    }
+
+    void useReplica() {
+        this.replica = true;
+    }
+
+    void lastWriteLsn(Long lastWriteLsn) {
+        this.lastWriteLsn = lastWriteLsn;
+    }
+}
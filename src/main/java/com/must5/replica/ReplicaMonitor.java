@@ -0,0 +1,126 @@
+package com.must5.replica;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Tracks how far the read replica is behind the primary.
+ * The replica only serves reads while its lag stays under orders.replica.max-lag and it
+ * has replayed the client's last write; otherwise, or while it cannot be reached, reads
+ * fall back to the primary.
+ * <p>
+ * Lag and replayed WAL position are sampled every orders.replica.check-interval, so a read
+ * without X-Last-Write-LSN may be up to max-lag + check-interval behind. A read with it only
+ * goes to the replica once a check has seen the replica replay past that position.
+ */
+@ApplicationScoped
+public class ReplicaMonitor {
+
+    /**
+     * Sent when the primary's position could not be read; it sorts after every real position.
+     */
+    public static final String UNKNOWN_LSN = "FFFFFFFF/FFFFFFFF";
+
+    private static final Logger LOG = Logger.getLogger(ReplicaMonitor.class);
+
+    // An idle primary replays nothing, so a replica that has caught up with what it received counts as lag 0.
+    // A datasource that is not a standby (the default setup) is its own primary and has everything.
+    private static final String STATUS_SQL = """
+        SELECT CASE
+                 WHEN NOT pg_is_in_recovery() THEN 0
+                 WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+               END,
+               CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn() ELSE pg_current_wal_lsn() END::text
+        """;
+
+    @Inject
+    @DataSource(ReplicaTenantResolver.REPLICA)
+    AgroalDataSource replica;
+
+    @ConfigProperty(name = "orders.replica.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "orders.replica.max-lag", defaultValue = "5s")
+    Duration maxLag;
+
+    // null until the first successful check, and again whenever the replica cannot be reached
+    private volatile Status status;
+
+    void onStart(@Observes StartupEvent event) {
+        check();
+    }
+
+    @Scheduled(every = "${orders.replica.check-interval:5s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void check() {
+        if (!enabled) {
+            return;
+        }
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(STATUS_SQL)) {
+            rs.next();
+            Duration lag = Duration.ofMillis(rs.getLong(1));
+            String replayed = rs.getString(2);
+            Status previous = status;
+            if (lag.compareTo(maxLag) > 0 && (previous == null || previous.lag().compareTo(maxLag) <= 0)) {
+                LOG.warnf("Read replica is %d ms behind, serving reads from the primary", lag.toMillis());
+            }
+            // A standby that has not replayed anything yet reports no position
+            status = new Status(lag, replayed != null ? parseLsn(replayed) : 0L);
+        } catch (SQLException e) {
+            if (status != null) {
+                LOG.warnf(e, "Read replica unavailable, serving reads from the primary");
+            }
+            status = null;
+        }
+    }
+
+    /**
+     * Whether a read may go to the replica.
+     *
+     * @param lastWriteLsn the client's last write as reported in X-Last-Write-LSN, or null
+     */
+    public boolean canServe(Long lastWriteLsn) {
+        Status current = status;
+        if (!enabled || current == null || current.lag().compareTo(maxLag) > 0) {
+            return false;
+        }
+        return lastWriteLsn == null || Long.compareUnsigned(current.replayedLsn(), lastWriteLsn) >= 0;
+    }
+
+    public Duration lag() {
+        Status current = status;
+        return current != null ? current.lag() : null;
+    }
+
+    /**
+     * A WAL position in Postgres' text form (e.g. 16/B374D848) as an unsigned 64 bit number.
+     *
+     * @throws NumberFormatException if the text is not a WAL position
+     */
+    public static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        if (slash < 1 || slash == lsn.length() - 1) {
+            throw new NumberFormatException("Not a WAL position: " + lsn);
+        }
+        return Long.parseUnsignedLong(lsn.substring(0, slash), 16) << 32
+            | Long.parseUnsignedLong(lsn.substring(slash + 1), 16);
+    }
+
+    private record Status(Duration lag, long replayedLsn) {
+    }
+}
@@ -0,0 +1,198 @@
+package com.must5.replica;
+
+import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderResponse;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import com.must5.service.OrderFields;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Order reads against the reactive replica pool, the SQL counterpart of the HQL projections of
+ * ReactiveOrderQueryService (Hibernate Reactive sessions are bound to the primary pool).
+ * Columns outside the fieldset are selected as NULL; items are read with a second query.
+ */
+@ApplicationScoped
+public class ReplicaOrderQueries {
+
+    // In the order of the OrderResponse projection constructor
+    private static final List<String> PROPERTIES =
+            List.of("id", "customerName", "orderDate", "totalAmount", "createdAt", "updatedAt");
+    private static final List<String> COLUMNS =
+            List.of("id", "customer_name", "order_date", "total_amount", "created_at", "updated_at");
+
+    @Inject
+    @ReactiveDataSource(ReplicaTenantResolver.REPLICA)
+    Pool replica;
+
+    @ConfigProperty(name = "orders.export.fetch-size", defaultValue = "500")
+    int exportPageSize;
+
+    public Uni<OrderResponse> findById(Long id, OrderFields fields) {
+        return replica.preparedQuery(select(fields) + " WHERE id = $1")
+            .execute(Tuple.of(id))
+            .chain(rows -> withItems(toOrders(rows), fields))
+            .map(orders -> orders.isEmpty() ? null : orders.get(0));
+    }
+
+    public Uni<List<OrderResponse>> findPage(String customerName, OrderSortField sortField, boolean descending,
+                                             int firstRow, int maxRows, OrderFields fields) {
+        Tuple parameters = Tuple.tuple();
+        List<String> conditions = new ArrayList<>();
+        filterByCustomer(customerName, conditions, parameters);
+        String sql = select(fields) + where(conditions) + orderBy(sortField, descending)
+            + " LIMIT " + bind(parameters, maxRows) + " OFFSET " + bind(parameters, firstRow);
+        return page(sql, parameters, fields);
+    }
+
+    // The fieldset must contain the cursor's sort field, see OrderFields#with
+    public Uni<List<OrderResponse>> findPage(String customerName, OrderCursor cursor, int maxRows, OrderFields fields) {
+        Tuple parameters = Tuple.tuple();
+        List<String> conditions = new ArrayList<>();
+        filterByCustomer(customerName, conditions, parameters);
+        if (!cursor.isFirstPage()) {
+            Map<String, Object> seek = cursor.seekParameters();
+            String operator = cursor.isDescending() ? " < " : " > ";
+            if (cursor.getSortField() == OrderSortField.ID) {
+                conditions.add("id" + operator + bind(parameters, seek.get("lastId")));
+            } else {
+                conditions.add("(" + cursor.getSortField().getColumn() + ", id)" + operator
+                    + "(" + bind(parameters, seek.get("lastValue")) + ", " + bind(parameters, seek.get("lastId")) + ")");
+            }
+        }
+        String sql = select(fields) + where(conditions) + orderBy(cursor.getSortField(), cursor.isDescending())
+            + " LIMIT " + bind(parameters, maxRows);
+        return page(sql, parameters, fields);
+    }
+
+    /**
+     * Same paging as ReactiveOrderQueryService#export: keyset pages by id, read on demand.
+     */
+    public Multi<OrderResponse> export(String customerName, LocalDate from, LocalDate to) {
+        return Multi.createBy().repeating()
+            .uni(() -> new AtomicLong(0), afterId -> {
+                Tuple parameters = Tuple.tuple();
+                List<String> conditions = new ArrayList<>();
+                filterByCustomer(customerName, conditions, parameters);
+                if (from != null) {
+                    conditions.add("order_date >= " + bind(parameters, from));
+                }
+                if (to != null) {
+                    conditions.add("order_date <= " + bind(parameters, to));
+                }
+                conditions.add("id > " + bind(parameters, afterId.get()));
+                String sql = select(OrderFields.ALL) + where(conditions) + " ORDER BY id LIMIT " + bind(parameters, exportPageSize);
+                return page(sql, parameters, OrderFields.ALL)
+                    .invoke(orders -> {
+                        if (!orders.isEmpty()) {
+                            afterId.set(orders.get(orders.size() - 1).getId());
+                        }
+                    });
+            })
+            .whilst(orders -> orders.size() == exportPageSize)
+            .onItem().disjoint();
+    }
+
+    public Uni<Long> count(String customerName) {
+        Tuple parameters = Tuple.tuple();
+        List<String> conditions = new ArrayList<>();
+        filterByCustomer(customerName, conditions, parameters);
+        return replica.preparedQuery("SELECT COUNT(*) FROM orders" + where(conditions))
+            .execute(parameters)
+            .map(rows -> rows.iterator().next().getLong(0));
+    }
+
+    public Uni<Long> estimateCount() {
+        return replica.query("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('orders')")
+            .execute()
+            .map(rows -> rows.iterator().next().getLong(0));
+    }
+
+    private Uni<List<OrderResponse>> page(String sql, Tuple parameters, OrderFields fields) {
+        return replica.preparedQuery(sql)
+            .execute(parameters)
+            .chain(rows -> withItems(toOrders(rows), fields));
+    }
+
+    private Uni<List<OrderResponse>> withItems(List<OrderResponse> orders, OrderFields fields) {
+        if (!fields.includesItems()) {
+            // Items that were not requested are left out of the JSON instead of showing up empty
+            orders.forEach(order -> order.setItems(null));
+            return Uni.createFrom().item(orders);
+        }
+        if (orders.isEmpty()) {
+            return Uni.createFrom().item(orders);
+        }
+        Map<Long, OrderResponse> byId = orders.stream()
+            .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+        return replica.preparedQuery(
+                "SELECT order_id, id, product_name, quantity, price FROM order_items WHERE order_id = ANY($1) ORDER BY id")
+            .execute(Tuple.tuple().addArrayOfLong(byId.keySet().toArray(new Long[0])))
+            .map(rows -> {
+                for (Row row : rows) {
+                    BigDecimal price = row.getBigDecimal("price");
+                    Integer quantity = row.getInteger("quantity");
+                    byId.get(row.getLong("order_id")).getItems().add(new OrderItemResponse(row.getLong("id"),
+                        row.getString("product_name"), quantity, price, price.multiply(BigDecimal.valueOf(quantity))));
+                }
+                return orders;
+            });
+    }
+
+    private static List<OrderResponse> toOrders(RowSet<Row> rows) {
+        List<OrderResponse> orders = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            orders.add(new OrderResponse(row.getLong(0), row.getString(1), row.getLocalDate(2), row.getBigDecimal(3),
+                row.getLocalDateTime(4), row.getLocalDateTime(5)));
+        }
+        return orders;
+    }
+
+    private static String select(OrderFields fields) {
+        List<String> columns = new ArrayList<>();
+        for (int i = 0; i < PROPERTIES.size(); i++) {
+            columns.add(fields.includes(PROPERTIES.get(i)) ? COLUMNS.get(i) : "NULL");
+        }
+        return "SELECT " + String.join(", ", columns) + " FROM orders";
+    }
+
+    private static void filterByCustomer(String customerName, List<String> conditions, Tuple parameters) {
+        if (customerName != null) {
+            conditions.add("customer_id = (SELECT id FROM customers WHERE name = " + bind(parameters, customerName) + ")");
+        }
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // Same direction on both columns, so the (field, id) index can be scanned either way
+    private static String orderBy(OrderSortField sortField, boolean descending) {
+        String direction = descending ? " DESC" : " ASC";
+        String orderBy = " ORDER BY " + sortField.getColumn() + direction;
+        return sortField == OrderSortField.ID ? orderBy : orderBy + ", id" + direction;
+    }
+
+    private static String bind(Tuple parameters, Object value) {
+        parameters.addValue(value);
+        return "$" + parameters.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.must5.replica;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read endpoint that may be served from the read replica.
+ * {@link ReplicaRoutingFilter} decides per request whether the replica is fresh enough.
+ */
+@NameBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
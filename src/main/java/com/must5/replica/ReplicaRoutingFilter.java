@@ -0,0 +1,53 @@
+package com.must5.replica;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Routes {@link ReplicaRead} endpoints to the replica when {@link ReplicaMonitor} allows it.
+ * Clients that need to read their own writes echo the X-Last-Write-LSN header they got back
+ * from the write; the request then stays on the primary until the replica has replayed it.
+ */
+@Provider
+@ReplicaRead
+public class ReplicaRoutingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String LAST_WRITE_HEADER = "X-Last-Write-LSN";
+    public static final String READ_SOURCE_HEADER = "X-Read-Source";
+
+    @Inject
+    ReplicaMonitor monitor;
+
+    @Inject
+    ReadTarget readTarget;
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        Long lastWriteLsn = lastWriteLsn(request.getHeaderString(LAST_WRITE_HEADER));
+        readTarget.lastWriteLsn(lastWriteLsn);
+        if (monitor.canServe(lastWriteLsn)) {
+            readTarget.useReplica();
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        response.getHeaders().putSingle(READ_SOURCE_HEADER, readTarget.isReplica() ? "replica" : "primary");
+    }
+
+    private static Long lastWriteLsn(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return ReplicaMonitor.parseLsn(header.trim());
+        } catch (NumberFormatException e) {
+            // Unreadable marker: assume the replica has not replayed it and stay on the primary
+            return ReplicaMonitor.parseLsn(ReplicaMonitor.UNKNOWN_LSN);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.must5.replica;
+
+import com.must5.entity.CustomerSpending;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * customer_spending reads against the reactive replica pool. Hibernate Reactive sessions are
+ * bound to the primary pool, so the reactive replica path is plain SQL.
+ */
+@ApplicationScoped
+public class ReplicaSpendingQueries {
+
+    @Inject
+    @ReactiveDataSource(ReplicaTenantResolver.REPLICA)
+    Pool replica;
+
+    public Uni<List<CustomerSpending>> page(int pageIndex, int pageSize) {
+        return replica.preparedQuery("""
+                SELECT customer_name, total_spending, total_orders, average_order_value, first_order_date, last_order_date
+                FROM customer_spending
+                ORDER BY total_spending DESC, customer_name
+                LIMIT $1 OFFSET $2
+                """)
+            .execute(Tuple.of(pageSize, pageIndex * pageSize))
+            .map(rows -> {
+                List<CustomerSpending> spendings = new ArrayList<>(rows.size());
+                for (Row row : rows) {
+                    spendings.add(toSpending(row));
+                }
+                return spendings;
+            });
+    }
+
+    public Uni<Long> count() {
+        return replica.query("SELECT COUNT(*) FROM customer_spending")
+            .execute()
+            .map(rows -> rows.iterator().next().getLong(0));
+    }
+
+    private static CustomerSpending toSpending(Row row) {
+        CustomerSpending spending = new CustomerSpending(row.getString("customer_name"), row.getBigDecimal("total_spending"));
+        spending.setTotalOrders(row.getLong("total_orders"));
+        spending.setAverageOrderValue(row.getBigDecimal("average_order_value"));
+        spending.setFirstOrderDate(row.getLocalDate("first_order_date"));
+        spending.setLastOrderDate(row.getLocalDate("last_order_date"));
+        return spending;
+    }
+}
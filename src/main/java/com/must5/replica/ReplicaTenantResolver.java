@@ -0,0 +1,31 @@
+package com.must5.replica;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Points the blocking persistence unit at the "replica" datasource for requests routed there.
+ * Everything else (writes, scheduled jobs, startup) stays on the default datasource.
+ */
+@PersistenceUnitExtension
+@RequestScoped
+public class ReplicaTenantResolver implements TenantResolver {
+
+    static final String REPLICA = "replica";
+
+    @Inject
+    ReadTarget readTarget;
+
+    @Override
+    public String getDefaultTenantId() {
+        return DataSourceUtil.DEFAULT_DATASOURCE_NAME;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        return readTarget.isReplica() ? REPLICA : getDefaultTenantId();
+    }
+}
@@ -0,0 +1,179 @@
+package com.must5.resource;
+
+import com.must5.dto.ProductSales;
+import com.must5.dto.RevenueBucket;
+import com.must5.dto.TrendingProduct;
+import com.must5.replica.ReplicaRead;
+import com.must5.response.ApiResponse;
+import com.must5.service.ProductAnalyticsService;
+import com.must5.service.RevenueAnalyticsService;
+import com.must5.service.TrendingProducts;
+import jakarta.annotation.security.PermitAll;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@Path("/orders/analytics")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Order Analytics", description = "API untuk analitik order dari tabel rollup")
+@ApplicationScoped
+@PermitAll
+@ReplicaRead
+public class AnalyticsResource {
+
+    @Inject
+    RevenueAnalyticsService revenueAnalytics;
+
+    @Inject
+    ProductAnalyticsService productAnalytics;
+
+    @Inject
+    TrendingProducts trendingProducts;
+
+    @GET
+    @Path("/revenue")
+    @Operation(
+        summary = "Revenue per period",
+        description = "Orders, revenue and distinct customers per day, week or month, read from the daily revenue rollup"
+    )
+    public Response getRevenue(
+            @Parameter(description = "First order date (inclusive)", example = "2025-01-01", required = true)
+            @QueryParam("from") String from,
+            @Parameter(description = "Last order date (inclusive)", example = "2025-12-31", required = true)
+            @QueryParam("to") String to,
+            @Parameter(description = "day, week or month", example = "day")
+            @QueryParam("granularity") @DefaultValue("day") String granularity) {
+
+        try {
+            LocalDate[] range = dateRange(from, to);
+            List<RevenueBucket> buckets = revenueAnalytics.revenue(
+                range[0], range[1], RevenueAnalyticsService.Granularity.fromParam(granularity));
+            ApiResponse<List<RevenueBucket>> response = new ApiResponse<>(
+                200,
+                "SUCCESS",
+                "Revenue retrieved successfully",
+                buckets
+            );
+            return Response.ok(response).build();
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = new ApiResponse<>(
+                400,
+                "BAD_REQUEST",
+                "Failed to retrieve revenue: " + e.getMessage(),
+                null
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+    }
+
+    @GET
+    @Path("/products/top")
+    @Operation(
+        summary = "Top products",
+        description = "Products with the highest revenue or quantity sold in a date range, read from the product sales rollup"
+    )
+    public Response getTopProducts(
+            @Parameter(description = "First order date (inclusive)", example = "2025-01-01", required = true)
+            @QueryParam("from") String from,
+            @Parameter(description = "Last order date (inclusive)", example = "2025-12-31", required = true)
+            @QueryParam("to") String to,
+            @Parameter(description = "revenue or quantity", example = "revenue")
+            @QueryParam("by") @DefaultValue("revenue") String by,
+            @Parameter(description = "Number of products (max 100)", example = "10")
+            @QueryParam("limit") @DefaultValue("10") int limit) {
+
+        try {
+            LocalDate[] range = dateRange(from, to);
+            List<ProductSales> products = productAnalytics.top(
+                range[0], range[1], ProductAnalyticsService.Ranking.fromParam(by), Math.min(100, Math.max(1, limit)));
+            ApiResponse<List<ProductSales>> response = new ApiResponse<>(
+                200,
+                "SUCCESS",
+                "Top products retrieved successfully",
+                products
+            );
+            return Response.ok(response).build();
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = new ApiResponse<>(
+                400,
+                "BAD_REQUEST",
+                "Failed to retrieve top products: " + e.getMessage(),
+                null
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+    }
+
+    @GET
+    @Path("/products/trending")
+    @Operation(
+        summary = "Trending products",
+        description = "Approximate top products by quantity in the current and previous window, from an in-memory Space-Saving sketch"
+    )
+    public Response getTrendingProducts(
+            @Parameter(description = "Number of products (max 100)", example = "10")
+            @QueryParam("limit") @DefaultValue("10") int limit) {
+        List<TrendingProduct> products = trendingProducts.top(Math.min(100, Math.max(1, limit)));
+        ApiResponse<List<TrendingProduct>> response = new ApiResponse<>(
+            200,
+            "SUCCESS",
+            "Trending products retrieved successfully",
+            products
+        );
+        return Response.ok(response).build();
+    }
+
+    @GET
+    @Path("/products/{productName}/daily")
+    @Operation(
+        summary = "Daily sales of a product",
+        description = "Quantity, revenue and number of orders per day for one product"
+    )
+    public Response getProductDailySales(
+            @PathParam("productName") String productName,
+            @Parameter(description = "First order date (inclusive)", example = "2025-01-01", required = true)
+            @QueryParam("from") String from,
+            @Parameter(description = "Last order date (inclusive)", example = "2025-12-31", required = true)
+            @QueryParam("to") String to) {
+
+        try {
+            LocalDate[] range = dateRange(from, to);
+            List<ProductSales> days = productAnalytics.daily(productName, range[0], range[1]);
+            ApiResponse<List<ProductSales>> response = new ApiResponse<>(
+                200,
+                "SUCCESS",
+                "Daily sales for product '" + productName + "' retrieved successfully",
+                days
+            );
+            return Response.ok(response).build();
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = new ApiResponse<>(
+                400,
+                "BAD_REQUEST",
+                "Failed to retrieve product sales: " + e.getMessage(),
+                null
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+    }
+
+    private LocalDate[] dateRange(String from, String to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both 'from' and 'to' are required (yyyy-MM-dd)");
+        }
+        LocalDate startDate = LocalDate.parse(from);
+        LocalDate endDate = LocalDate.parse(to);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return new LocalDate[] {startDate, endDate};
+    }
+}
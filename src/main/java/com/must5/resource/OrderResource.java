@@ -1,26 +1,53 @@
 package com.must5.resource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.must5.dto.BatchOrderResponse;
+import com.must5.dto.BatchOrderResult;
+import com.must5.dto.CustomerRank;
 import com.must5.dto.OrderItemRequest;
 import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderLookupRequest;
+import com.must5.dto.OrderLookupResponse;
 import com.must5.dto.OrderRequest;
 import com.must5.dto.OrderResponse;
+import com.must5.dto.OrderSearchHit;
 import com.must5.entity.CustomerSpending;
 import com.must5.entity.Order;
 import com.must5.entity.OrderItem;
+import com.must5.event.OrderChangedEvent;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import com.must5.pagination.SearchCursor;
+import com.must5.pagination.TotalMode;
+import com.must5.replica.PrimaryWrite;
+import com.must5.replica.ReplicaRead;
 import com.must5.response.ApiResponse;
 import com.must5.response.PaginatedApiResponse;
 import com.must5.response.ValidationErrorResponse;
-import io.quarkus.panache.common.Page;
-import io.quarkus.panache.common.Sort;
+import com.must5.service.CustomerLeaderboard;
+import com.must5.service.OrderCountService;
+import com.must5.service.OrderFields;
+import com.must5.service.OrderQueryService;
+import com.must5.service.OrderResponseCache;
+import com.must5.service.OrderSearchService;
+import com.must5.service.RequestCoalescer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.annotation.security.PermitAll;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
@@ -30,9 +57,21 @@ import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,7 +84,49 @@ import java.util.stream.Collectors;
 @PermitAll
 public class OrderResource {
 
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    OrderCountService orderCounts;
+
+    @Inject
+    OrderQueryService orderQueries;
+
+    @Inject
+    OrderSearchService orderSearch;
+
+    @Inject
+    CustomerLeaderboard leaderboard;
+
+    @Inject
+    RequestCoalescer coalescer;
+
+    @Inject
+    OrderResponseCache orderCache;
+
+    @Inject
+    Event<OrderChangedEvent> orderEvents;
+
+    @ConfigProperty(name = "orders.batch.max-size", defaultValue = "1000")
+    int batchMaxSize;
+
+    @ConfigProperty(name = "orders.batch.chunk-size", defaultValue = "100")
+    int batchChunkSize;
+
+    @ConfigProperty(name = "orders.lookup.max-ids", defaultValue = "500")
+    int lookupMaxIds;
+
+    @ConfigProperty(name = "orders.export.timeout", defaultValue = "1h")
+    Duration exportTimeout;
+
+    @Inject
+    ObjectMapper objectMapper;
+
     @POST
+    @PrimaryWrite
     @Transactional
     @Operation(
         summary = "Create new order",
@@ -83,43 +164,7 @@ public class OrderResource {
     )
     public Response createOrder(@Valid OrderRequest orderRequest, @Context UriInfo uriInfo) {
         try {
-            // Manual validation for empty items
-            if (orderRequest.getItems() == null || orderRequest.getItems().isEmpty()) {
-                ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
-                    "items", "Order must have at least one item"
-                );
-                return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
-            }
-
-            // Validate individual items
-            java.util.Map<String, java.util.List<String>> validationErrors = new java.util.HashMap<>();
-
-            for (int i = 0; i < orderRequest.getItems().size(); i++) {
-                OrderItemRequest itemRequest = orderRequest.getItems().get(i);
-                String fieldPrefix = "items[" + i + "].";
-
-                // Validate quantity
-                if (itemRequest.getQuantity() == null ||
-                    itemRequest.getQuantity().toString().trim().isEmpty() ||
-                    itemRequest.getQuantity() <= 0) {
-                    validationErrors.computeIfAbsent("quantity", k -> new java.util.ArrayList<>())
-                        .add("Quantity is required and must be greater than 0");
-                }
-
-                // Validate price
-                if (itemRequest.getPrice() == null ||
-                    itemRequest.getPrice().toString().trim().isEmpty() ||
-                    itemRequest.getPrice().compareTo(java.math.BigDecimal.ZERO) <= 0) {
-                    validationErrors.computeIfAbsent("price", k -> new java.util.ArrayList<>())
-                        .add("Price is required and must be greater than 0");
-                }
-
-                // Validate productName
-                if (itemRequest.getProductName() == null || itemRequest.getProductName().trim().isEmpty()) {
-                    validationErrors.computeIfAbsent("productName", k -> new java.util.ArrayList<>())
-                        .add("Product name is required");
-                }
-            }
+            java.util.Map<String, java.util.List<String>> validationErrors = validateOrderRequest(orderRequest);
 
             // If there are validation errors, return them
             if (!validationErrors.isEmpty()) {
@@ -132,21 +177,9 @@ public class OrderResource {
                 return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
             }
 
-            Order order = new Order();
-            order.setCustomerName(orderRequest.getCustomerName());
-            if (orderRequest.getOrderDate() != null) {
-                order.setOrderDate(orderRequest.getOrderDate());
-            }
-
-            for (OrderItemRequest itemRequest : orderRequest.getItems()) {
-                OrderItem item = new OrderItem();
-                item.setProductName(itemRequest.getProductName());
-                item.setQuantity(itemRequest.getQuantity());
-                item.setPrice(itemRequest.getPrice());
-                order.addItem(item);
-            }
-
+            Order order = toOrder(orderRequest);
             order.persist();
+            orderEvents.fire(OrderChangedEvent.created(order));
 
             OrderResponse orderData = convertToOrderResponse(order);
 
@@ -172,10 +205,169 @@ public class OrderResource {
         }
     }
 
+    @POST
+    @PrimaryWrite
+    @Path("/batch")
+    @Operation(
+        summary = "Create orders in bulk",
+        description = "Create many orders in chunked transactions using JDBC batching. Every order gets its own result; a failing order does not roll back the rest of the batch."
+    )
+    @APIResponses(
+        value = {
+            @APIResponse(
+                responseCode = "201",
+                description = "All orders created successfully"
+            ),
+            @APIResponse(
+                responseCode = "207",
+                description = "Some orders failed, see the per-order results"
+            ),
+            @APIResponse(
+                responseCode = "400",
+                description = "Bad request - empty or oversized batch"
+            )
+        }
+    )
+    public Response createOrdersBatch(List<OrderRequest> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
+                "orders", "Batch must contain at least one order"
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+        if (orderRequests.size() > batchMaxSize) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(
+                "Batch must not contain more than " + batchMaxSize + " orders"
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+
+        BatchOrderResult[] results = new BatchOrderResult[orderRequests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < orderRequests.size(); i++) {
+            java.util.Map<String, java.util.List<String>> validationErrors = validateBatchEntry(orderRequests.get(i));
+            if (validationErrors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BatchOrderResult.failed(i, "Validation failed", validationErrors);
+            }
+        }
+
+        int chunkSize = Math.max(1, batchChunkSize);
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+            try {
+                List<Order> orders = QuarkusTransaction.requiringNew().call(() -> persistOrders(orderRequests, chunk));
+                for (int j = 0; j < chunk.size(); j++) {
+                    Order order = orders.get(j);
+                    results[chunk.get(j)] = BatchOrderResult.created(chunk.get(j), order.id, order.getTotalAmount());
+                }
+            } catch (Exception e) {
+                // Retry the chunk one order per transaction so only the bad orders fail
+                for (Integer index : chunk) {
+                    try {
+                        Order order = QuarkusTransaction.requiringNew()
+                                .call(() -> persistOrders(orderRequests, List.of(index)).get(0));
+                        results[index] = BatchOrderResult.created(index, order.id, order.getTotalAmount());
+                    } catch (Exception orderException) {
+                        results[index] = BatchOrderResult.failed(index,
+                                "Failed to create order: " + orderException.getMessage(), null);
+                    }
+                }
+            }
+        }
+
+        BatchOrderResponse batchData = BatchOrderResponse.of(Arrays.asList(results));
+        if (batchData.getFailed() == 0) {
+            ApiResponse<BatchOrderResponse> response = new ApiResponse<>(
+                201,
+                "CREATED",
+                batchData.getSucceeded() + " orders created successfully",
+                batchData
+            );
+            return Response.status(Response.Status.CREATED).entity(response).build();
+        }
+
+        ApiResponse<BatchOrderResponse> response = new ApiResponse<>(
+            207,
+            "MULTI_STATUS",
+            batchData.getSucceeded() + " orders created, " + batchData.getFailed() + " failed",
+            batchData
+        );
+        return Response.status(207).entity(response).build();
+    }
+
+    @POST
+    @Path("/lookup")
+    @Operation(
+        summary = "Get many orders by ID",
+        description = "Fetch up to orders.lookup.max-ids orders with their items in two queries. Orders come back in the requested order; ids that do not exist are listed in missingIds instead of failing the call."
+    )
+    public Response lookupOrders(OrderLookupRequest request) {
+        if (request == null || request.getIds() == null || request.getIds().isEmpty()) {
+            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
+                "ids", "At least one order id is required"
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+        if (request.getIds().contains(null)) {
+            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
+                "ids", "Order ids must not be null"
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+        if (request.getIds().size() > lookupMaxIds) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(
+                "Lookup must not contain more than " + lookupMaxIds + " ids"
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+
+        List<Long> ids = request.getIds().stream().distinct().collect(Collectors.toList());
+        OrderLookupResponse lookup = OrderLookupResponse.of(ids, orderQueries.findByIds(ids));
+        ApiResponse<OrderLookupResponse> response = new ApiResponse<>(
+            200,
+            "SUCCESS",
+            lookup.getOrders().size() + " orders found, " + lookup.getMissingIds().size() + " missing",
+            lookup
+        );
+        return Response.ok(response).build();
+    }
+
     @GET
+    @ReplicaRead
     @Path("/{id}")
-    public Response getOrderById(@PathParam("id") Long id) {
-        Optional<Order> orderOpt = Order.findByIdOptional(id);
+    public Response getOrderById(
+            @PathParam("id") Long id,
+            @Parameter(
+                description = "Comma separated fields to return (id, customerName, orderDate, totalAmount, createdAt, updatedAt, items). Default: all",
+                example = "id,customerName,orderDate,totalAmount"
+            ) @QueryParam("fields") String fields,
+            @Parameter(
+                description = "Add related data to a sparse fieldset, only 'items' is supported",
+                example = "items"
+            ) @QueryParam("include") String include,
+            @Context Request request) {
+
+        OrderFields orderFields;
+        try {
+            orderFields = OrderFields.fromParams(fields, include);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+
+        // Full orders are served from the response cache, revalidated with If-None-Match
+        boolean cacheable = orderFields.isAll();
+        if (cacheable) {
+            Optional<OrderResponseCache.CachedOrder> cached = orderCache.get(id);
+            if (cached.isPresent()) {
+                return cached.get().toResponse(request);
+            }
+        }
+
+        Optional<OrderResponse> orderOpt = coalescer.execute("order", id + "|" + orderFields.key(),
+                () -> orderQueries.findById(id, orderFields));
         if (orderOpt.isEmpty()) {
             ApiResponse<Void> response = new ApiResponse<>(
                 404,
@@ -186,18 +378,20 @@ public class OrderResource {
             return Response.status(Response.Status.NOT_FOUND).entity(response).build();
         }
 
-        Order order = orderOpt.get();
-        OrderResponse orderData = convertToOrderResponse(order);
         ApiResponse<OrderResponse> response = new ApiResponse<>(
             200,
             "SUCCESS",
             "Order retrieved successfully",
-            orderData
+            orderOpt.get()
         );
+        if (cacheable) {
+            return orderCache.put(id, response).toResponse(request);
+        }
         return Response.ok(response).build();
     }
 
     @GET
+    @ReplicaRead
     @Operation(
         summary = "Get all orders with pagination",
         description = "Retrieve a paginated list of orders with optional filtering and sorting"
@@ -230,40 +424,61 @@ public class OrderResource {
             @Parameter(
                 description = "Filter by customer name",
                 example = "John Doe"
-            ) @QueryParam("customerName") String customerName) {
+            ) @QueryParam("customerName") String customerName,
+            @Parameter(
+                description = "Keyset cursor. Send it empty to start cursor pagination, then pass paginate.nextCursor of the previous page. Replaces page, sort and order."
+            ) @QueryParam("cursor") String cursor,
+            @Parameter(
+                description = "How to compute paginate.total: exact (COUNT), estimate (planner statistics or cached count) or none",
+                example = "exact"
+            ) @QueryParam("total") @DefaultValue("exact") String total,
+            @Parameter(
+                description = "Comma separated fields to return (id, customerName, orderDate, totalAmount, createdAt, updatedAt, items). Default: all",
+                example = "id,customerName,orderDate,totalAmount"
+            ) @QueryParam("fields") String fields,
+            @Parameter(
+                description = "Add related data to a sparse fieldset, only 'items' is supported",
+                example = "items"
+            ) @QueryParam("include") String include) {
 
         try {
             // Convert 1-based page index to 0-based for internal use
             int page = Math.max(0, pageIndex - 1);
             int size = Math.min(100, Math.max(1, pageSize));
+            TotalMode totalMode = TotalMode.fromParam(total);
+            OrderFields orderFields = OrderFields.fromParams(fields, include);
+            boolean descending = sortOrder.equalsIgnoreCase("desc");
+
+            // Only index-backed fields can be sorted on, anything else is rejected before touching the database
+            Optional<OrderSortField> sortField = OrderSortField.fromProperty(sortBy);
+            if (sortField.isEmpty()) {
+                ApiResponse<Void> errorResponse = ApiResponse.badRequest(
+                    "Unsupported sort field '" + sortBy + "'. Supported fields: " + OrderSortField.supportedProperties()
+                );
+                return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+            }
 
-            Page pageRequest = Page.of(page, size);
-            Sort.Direction direction = sortOrder.equalsIgnoreCase("desc") ?
-                Sort.Direction.Descending : Sort.Direction.Ascending;
-            Sort sort = Sort.by(sortBy, direction);
-
-            List<Order> orders;
-            long totalElements;
+            String filter = customerName != null && !customerName.trim().isEmpty() ? customerName : null;
 
-            if (customerName != null && !customerName.trim().isEmpty()) {
-                orders = Order.find("customerName = :customerName", sort)
-                        .page(pageRequest)
-                        .list();
-                totalElements = Order.count("customerName = :customerName",
-                                         io.quarkus.panache.common.Parameters.with("customerName", customerName));
-            } else {
-                orders = Order.findAll(sort)
-                        .page(pageRequest)
-                        .list();
-                totalElements = Order.count();
+            if (cursor != null) {
+                OrderCursor position = cursor.isBlank()
+                    ? OrderCursor.first(sortField.get(), descending)
+                    : OrderCursor.decode(cursor);
+                return Response.ok(cursorPage(filter, position, size, totalMode, orderFields, "Orders retrieved successfully")).build();
             }
 
-            List<OrderResponse> orderResponses = orders.stream()
-                    .map(this::convertToOrderResponse)
-                    .collect(Collectors.toList());
+            // Fetch one extra row so hasNext is known without counting
+            List<OrderResponse> orderResponses = orderQueries.findPage(
+                filter, sortField.get(), descending, page * size, size + 1, orderFields);
+
+            boolean hasNext = orderResponses.size() > size;
+            if (hasNext) {
+                orderResponses = orderResponses.subList(0, size);
+            }
+            Long totalElements = orderCounts.count(totalMode, filter);
 
             PaginatedApiResponse.PaginationInfo paginationInfo =
-                new PaginatedApiResponse.PaginationInfo(totalElements, pageIndex, size, (int) Math.ceil((double) totalElements / size));
+                PaginatedApiResponse.PaginationInfo.offset(totalElements, totalMode, pageIndex, size, hasNext);
 
             PaginatedApiResponse<OrderResponse> response = new PaginatedApiResponse<>(
                 200,
@@ -286,6 +501,111 @@ public class OrderResource {
     }
 
     @GET
+    @ReplicaRead
+    @Path("/search")
+    @Operation(
+        summary = "Search orders",
+        description = "Case and accent insensitive substring search over customer and product names, ranked by similarity"
+    )
+    public Response searchOrders(
+            @Parameter(description = "Search term (at least 3 characters)", example = "muller", required = true)
+            @QueryParam("q") String q,
+            @Parameter(description = "Number of results (max 100)", example = "20")
+            @QueryParam("size") @DefaultValue("20") int pageSize,
+            @Parameter(description = "paginate.nextCursor of the previous page")
+            @QueryParam("cursor") String cursor) {
+
+        try {
+            int size = Math.min(100, Math.max(1, pageSize));
+            SearchCursor position = cursor != null && !cursor.isBlank() ? SearchCursor.decode(cursor) : null;
+
+            // Fetch one extra hit to know whether there is a next page
+            List<OrderSearchHit> hits = orderSearch.search(q, position, size + 1);
+            boolean hasNext = hits.size() > size;
+            String nextCursor = null;
+            if (hasNext) {
+                hits = hits.subList(0, size);
+                OrderSearchHit last = hits.get(hits.size() - 1);
+                nextCursor = new SearchCursor(last.getScore(), last.getOrder().getId()).encode();
+            }
+
+            PaginatedApiResponse.PaginationInfo paginationInfo = PaginatedApiResponse.PaginationInfo.cursor(
+                null, TotalMode.NONE, size, nextCursor, hasNext);
+
+            PaginatedApiResponse<OrderSearchHit> response = new PaginatedApiResponse<>(
+                200,
+                "SUCCESS",
+                "Search results retrieved successfully",
+                hits,
+                paginationInfo
+            );
+            return Response.ok(response).build();
+        } catch (IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = new ApiResponse<>(
+                400,
+                "BAD_REQUEST",
+                "Failed to search orders: " + e.getMessage(),
+                null
+            );
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        } catch (Exception e) {
+            ApiResponse<Void> errorResponse = new ApiResponse<>(
+                500,
+                "INTERNAL_SERVER_ERROR",
+                "Failed to search orders: " + e.getMessage(),
+                null
+            );
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorResponse).build();
+        }
+    }
+
+    @GET
+    @ReplicaRead
+    @Path("/export")
+    @Produces({NDJSON, MediaType.SERVER_SENT_EVENTS})
+    @Operation(
+        summary = "Export orders",
+        description = "Stream all orders with their items as NDJSON (default) or Server-Sent Events (Accept: text/event-stream), optionally filtered by customer and order date range"
+    )
+    public Response exportOrders(
+            @Parameter(description = "Filter by customer name", example = "John Doe")
+            @QueryParam("customerName") String customerName,
+            @Parameter(description = "First order date (inclusive)", example = "2025-01-01")
+            @QueryParam("from") String from,
+            @Parameter(description = "Last order date (inclusive)", example = "2025-12-31")
+            @QueryParam("to") String to,
+            @HeaderParam(HttpHeaders.ACCEPT) String accept) {
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = from != null && !from.isBlank() ? LocalDate.parse(from) : null;
+            endDate = to != null && !to.isBlank() ? LocalDate.parse(to) : null;
+        } catch (DateTimeParseException e) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest("Invalid date, expected yyyy-MM-dd: " + e.getParsedString());
+            return Response.status(Response.Status.BAD_REQUEST).type(MediaType.APPLICATION_JSON).entity(errorResponse).build();
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest("'from' must not be after 'to'");
+            return Response.status(Response.Status.BAD_REQUEST).type(MediaType.APPLICATION_JSON).entity(errorResponse).build();
+        }
+
+        String filter = customerName != null && !customerName.trim().isEmpty() ? customerName : null;
+        boolean sse = accept != null && accept.contains(MediaType.SERVER_SENT_EVENTS);
+
+        // Writes block while the client is slow to read, which throttles the cursor
+        StreamingOutput stream = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            QuarkusTransaction.requiringNew()
+                .timeout((int) exportTimeout.toSeconds())
+                .run(() -> orderQueries.export(filter, startDate, endDate, order -> writeExportLine(writer, order, sse)));
+            writer.flush();
+        };
+        return Response.ok(stream, sse ? MediaType.SERVER_SENT_EVENTS : NDJSON).build();
+    }
+
+    @GET
+    @ReplicaRead
     @Path("/customers/spending")
     public Response getTotalSpendingPerCustomer(
             @QueryParam("page") @DefaultValue("1") int pageIndex,
@@ -296,21 +616,11 @@ public class OrderResource {
             int page = Math.max(0, pageIndex - 1);
             int size = Math.min(100, Math.max(1, pageSize));
 
-            // Get all customer spending data
-            List<CustomerSpending> allCustomerSpendings = Order.getTotalSpendingPerCustomer();
-            long totalElements = allCustomerSpendings.size();
-
-            // Apply pagination manually
-            int startIndex = page * size;
-            int endIndex = Math.min(startIndex + size, (int) totalElements);
-
-            List<CustomerSpending> customerSpendings;
-            if (startIndex >= totalElements) {
-                // If start index is beyond the list, return empty list
-                customerSpendings = List.of();
-            } else {
-                customerSpendings = allCustomerSpendings.subList(startIndex, endIndex);
-            }
+            // Only the requested page is read, in index order of customer_spending
+            SpendingPage spendingPage = coalescer.execute("customer-spending", page + "|" + size,
+                    () -> new SpendingPage(Order.getTotalSpendingPerCustomer(page, size), Order.countCustomers()));
+            List<CustomerSpending> customerSpendings = spendingPage.content();
+            long totalElements = spendingPage.totalElements();
 
             PaginatedApiResponse.PaginationInfo paginationInfo =
                 new PaginatedApiResponse.PaginationInfo(totalElements, pageIndex, size, (int) Math.ceil((double) totalElements / size));
@@ -336,30 +646,91 @@ public class OrderResource {
     }
 
     @GET
+    @Path("/customers/top")
+    @Operation(
+        summary = "Top customers",
+        description = "Customers with the highest total spending, served from the in-memory leaderboard"
+    )
+    public Response getTopCustomers(
+            @Parameter(description = "Number of customers (max 100)", example = "10")
+            @QueryParam("limit") @DefaultValue("10") int limit) {
+        List<CustomerRank> ranks = leaderboard.top(Math.min(100, Math.max(1, limit)));
+        ApiResponse<List<CustomerRank>> response = new ApiResponse<>(
+            200,
+            "SUCCESS",
+            "Top customers retrieved successfully",
+            ranks
+        );
+        return Response.ok(response).build();
+    }
+
+    @GET
+    @Path("/customers/{customerName}/rank")
+    @Operation(
+        summary = "Customer rank",
+        description = "Rank of a customer by total spending (equal totals share a rank), served from the in-memory leaderboard"
+    )
+    public Response getCustomerRank(@PathParam("customerName") String customerName) {
+        Optional<CustomerRank> rank = leaderboard.rankOf(customerName);
+        if (rank.isEmpty()) {
+            ApiResponse<Void> response = new ApiResponse<>(
+                404,
+                "NOT_FOUND",
+                "Customer '" + customerName + "' has no orders",
+                null
+            );
+            return Response.status(Response.Status.NOT_FOUND).entity(response).build();
+        }
+
+        ApiResponse<CustomerRank> response = new ApiResponse<>(
+            200,
+            "SUCCESS",
+            "Customer rank retrieved successfully",
+            rank.get()
+        );
+        return Response.ok(response).build();
+    }
+
+    @GET
+    @ReplicaRead
     @Path("/customers/{customerName}")
     public Response getOrdersByCustomer(
             @PathParam("customerName") String customerName,
             @QueryParam("page") @DefaultValue("1") int pageIndex,
-            @QueryParam("size") @DefaultValue("20") int pageSize) {
+            @QueryParam("size") @DefaultValue("20") int pageSize,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("total") @DefaultValue("exact") String total,
+            @QueryParam("fields") String fields,
+            @QueryParam("include") String include) {
 
         try {
             // Convert 1-based page index to 0-based for internal use
             int page = Math.max(0, pageIndex - 1);
             int size = Math.min(100, Math.max(1, pageSize));
+            TotalMode totalMode = TotalMode.fromParam(total);
+            OrderFields orderFields = OrderFields.fromParams(fields, include);
+
+            if (cursor != null) {
+                // Same order as #Order.findByCustomerName: newest order date first
+                OrderCursor position = cursor.isBlank()
+                    ? OrderCursor.first(OrderSortField.ORDER_DATE, true)
+                    : OrderCursor.decode(cursor);
+                return Response.ok(cursorPage(customerName, position, size, totalMode, orderFields,
+                    "Orders for customer '" + customerName + "' retrieved successfully")).build();
+            }
 
-            List<Order> orders = Order.find("#Order.findByCustomerName",
-                    io.quarkus.panache.common.Parameters.with("customerName", customerName))
-                    .page(Page.of(page, size))
-                    .list();
-
-            long totalElements = Order.count("customerName", customerName);
+            // Same order as #Order.findByCustomerName, one extra row so hasNext is known without counting
+            List<OrderResponse> orderResponses = orderQueries.findPage(
+                customerName, OrderSortField.ORDER_DATE, true, page * size, size + 1, orderFields);
 
-            List<OrderResponse> orderResponses = orders.stream()
-                    .map(this::convertToOrderResponse)
-                    .collect(Collectors.toList());
+            boolean hasNext = orderResponses.size() > size;
+            if (hasNext) {
+                orderResponses = orderResponses.subList(0, size);
+            }
+            Long totalElements = orderCounts.count(totalMode, customerName);
 
             PaginatedApiResponse.PaginationInfo paginationInfo =
-                new PaginatedApiResponse.PaginationInfo(totalElements, pageIndex, size, (int) Math.ceil((double) totalElements / size));
+                PaginatedApiResponse.PaginationInfo.offset(totalElements, totalMode, pageIndex, size, hasNext);
 
             PaginatedApiResponse<OrderResponse> response = new PaginatedApiResponse<>(
                 200,
@@ -382,6 +753,7 @@ public class OrderResource {
     }
 
     @DELETE
+    @PrimaryWrite
     @Path("/{id}")
     @Transactional
     public Response deleteOrder(@PathParam("id") Long id) {
@@ -399,6 +771,7 @@ public class OrderResource {
         try {
             Order order = orderOpt.get();
             order.delete();
+            orderEvents.fire(OrderChangedEvent.deleted(order));
             ApiResponse<Void> response = new ApiResponse<>(
                 204,
                 "NO_CONTENT",
@@ -417,6 +790,132 @@ public class OrderResource {
         }
     }
 
+    private java.util.Map<String, java.util.List<String>> validateOrderRequest(OrderRequest orderRequest) {
+        java.util.Map<String, java.util.List<String>> validationErrors = new java.util.HashMap<>();
+
+        // Manual validation for empty items
+        if (orderRequest.getItems() == null || orderRequest.getItems().isEmpty()) {
+            validationErrors.put("items", new java.util.ArrayList<>(List.of("Order must have at least one item")));
+            return validationErrors;
+        }
+
+        // Validate individual items
+        for (OrderItemRequest itemRequest : orderRequest.getItems()) {
+            // Validate quantity
+            if (itemRequest.getQuantity() == null ||
+                itemRequest.getQuantity().toString().trim().isEmpty() ||
+                itemRequest.getQuantity() <= 0) {
+                validationErrors.computeIfAbsent("quantity", k -> new java.util.ArrayList<>())
+                    .add("Quantity is required and must be greater than 0");
+            }
+
+            // Validate price
+            if (itemRequest.getPrice() == null ||
+                itemRequest.getPrice().toString().trim().isEmpty() ||
+                itemRequest.getPrice().compareTo(java.math.BigDecimal.ZERO) <= 0) {
+                validationErrors.computeIfAbsent("price", k -> new java.util.ArrayList<>())
+                    .add("Price is required and must be greater than 0");
+            }
+
+            // Validate productName
+            if (itemRequest.getProductName() == null || itemRequest.getProductName().trim().isEmpty()) {
+                validationErrors.computeIfAbsent("productName", k -> new java.util.ArrayList<>())
+                    .add("Product name is required");
+            }
+        }
+
+        return validationErrors;
+    }
+
+    // Batch entries are not covered by @Valid, so run the bean constraints per order as well
+    private java.util.Map<String, java.util.List<String>> validateBatchEntry(OrderRequest orderRequest) {
+        if (orderRequest == null) {
+            java.util.Map<String, java.util.List<String>> validationErrors = new java.util.HashMap<>();
+            validationErrors.put("order", new java.util.ArrayList<>(List.of("Order is required")));
+            return validationErrors;
+        }
+
+        java.util.Set<jakarta.validation.ConstraintViolation<?>> violations = new java.util.HashSet<>(validator.validate(orderRequest));
+        java.util.Map<String, java.util.List<String>> validationErrors = violations.isEmpty()
+                ? new java.util.HashMap<>()
+                : ValidationErrorResponse.fromConstraintViolations(violations).getErrors();
+        validateOrderRequest(orderRequest).forEach((field, messages) ->
+                validationErrors.computeIfAbsent(field, k -> new java.util.ArrayList<>()).addAll(messages));
+        return validationErrors;
+    }
+
+    private Order toOrder(OrderRequest orderRequest) {
+        Order order = new Order();
+        order.setCustomerName(orderRequest.getCustomerName());
+        if (orderRequest.getOrderDate() != null) {
+            order.setOrderDate(orderRequest.getOrderDate());
+        }
+
+        for (OrderItemRequest itemRequest : orderRequest.getItems()) {
+            OrderItem item = new OrderItem();
+            item.setProductName(itemRequest.getProductName());
+            item.setQuantity(itemRequest.getQuantity());
+            item.setPrice(itemRequest.getPrice());
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    private List<Order> persistOrders(List<OrderRequest> orderRequests, List<Integer> indexes) {
+        // Insert in (customer, date) order, so concurrent chunks lock customer and rollup rows in the same order;
+        // the returned orders stay in the order of indexes
+        List<Order> orders = indexes.stream()
+                .map(index -> toOrder(orderRequests.get(index)))
+                .collect(Collectors.toList());
+        List<Order> insertOrder = new ArrayList<>(orders);
+        insertOrder.sort(Comparator.comparing(Order::getCustomerName).thenComparing(Order::getOrderDate));
+        Order.persist(insertOrder);
+        orders.forEach(order -> orderEvents.fire(OrderChangedEvent.created(order)));
+        return orders;
+    }
+
+    private PaginatedApiResponse<OrderResponse> cursorPage(String customerName, OrderCursor cursor, int size,
+                                                           TotalMode totalMode, OrderFields fields, String message) {
+        // Fetch one extra row to know whether there is a next page
+        List<OrderResponse> orderResponses = orderQueries.findPage(
+            customerName, cursor, size + 1, fields.with(cursor.getSortField().getProperty()));
+        boolean hasNext = orderResponses.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            orderResponses = orderResponses.subList(0, size);
+            OrderResponse last = orderResponses.get(orderResponses.size() - 1);
+            nextCursor = cursor.next(cursor.getSortField().valueOf(last), last.getId()).encode();
+        }
+
+        Long totalElements = orderCounts.count(totalMode, customerName);
+
+        PaginatedApiResponse.PaginationInfo paginationInfo = PaginatedApiResponse.PaginationInfo.cursor(
+            totalElements, totalMode, size, nextCursor, hasNext);
+
+        return new PaginatedApiResponse<>(
+            200,
+            "SUCCESS",
+            message,
+            orderResponses,
+            paginationInfo
+        );
+    }
+
+    private void writeExportLine(Writer writer, OrderResponse order, boolean sse) {
+        try {
+            String json = objectMapper.writeValueAsString(order);
+            if (sse) {
+                writer.write("data: " + json + "\n\n");
+                // An event sitting in the buffer has not reached the client yet
+                writer.flush();
+            } else {
+                writer.write(json + "\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private OrderResponse convertToOrderResponse(Order order) {
         List<OrderItemResponse> itemResponses = null;
         if (order.getItems() != null) {
@@ -442,6 +941,10 @@ public class OrderResource {
         );
     }
 
+    // One page of customer_spending plus the total, shared between coalesced requests
+    private record SpendingPage(List<CustomerSpending> content, long totalElements) {
+    }
+
     // Helper class for pagination response
     public static class PaginationResponse {
         private List<OrderResponse> content;
@@ -1,25 +1,51 @@
 package com.must5.resource;
 
+import com.must5.dto.BatchOrderResponse;
+import com.must5.dto.BatchOrderResult;
+import com.must5.dto.CustomerRank;
 import com.must5.dto.OrderItemRequest;
 import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderLookupRequest;
+import com.must5.dto.OrderLookupResponse;
 import com.must5.dto.OrderRequest;
 import com.must5.dto.OrderResponse;
 import com.must5.entity.CustomerSpending;
 import com.must5.entity.ReactiveOrder;
 import com.must5.entity.ReactiveOrderItem;
+import com.must5.event.OrderChangedEvent;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import com.must5.pagination.TotalMode;
+import com.must5.replica.PrimaryWrite;
+import com.must5.replica.ReadTarget;
+import com.must5.replica.ReplicaRead;
+import com.must5.replica.ReplicaSpendingQueries;
 import com.must5.response.ApiResponse;
 import com.must5.response.PaginatedApiResponse;
 import com.must5.response.ValidationErrorResponse;
+import com.must5.service.CustomerLeaderboard;
+import com.must5.service.OrderCountService;
+import com.must5.service.OrderFields;
+import com.must5.service.OrderResponseCache;
+import com.must5.service.ReactiveOrderQueryService;
+import com.must5.service.RequestCoalescer;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.PermitAll;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
@@ -28,7 +54,14 @@ import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -41,7 +74,47 @@ import java.util.stream.Collectors;
 @PermitAll
 public class ReactiveOrderResource {
 
+    @Inject
+    Validator validator;
+
+    @Inject
+    Mutiny.SessionFactory sessionFactory;
+
+    @Inject
+    OrderCountService orderCounts;
+
+    @Inject
+    ReactiveOrderQueryService orderQueries;
+
+    @Inject
+    CustomerLeaderboard leaderboard;
+
+    @Inject
+    ReadTarget readTarget;
+
+    @Inject
+    ReplicaSpendingQueries replicaSpending;
+
+    @Inject
+    RequestCoalescer coalescer;
+
+    @Inject
+    OrderResponseCache orderCache;
+
+    @Inject
+    Event<OrderChangedEvent> orderEvents;
+
+    @ConfigProperty(name = "orders.batch.max-size", defaultValue = "1000")
+    int batchMaxSize;
+
+    @ConfigProperty(name = "orders.batch.chunk-size", defaultValue = "100")
+    int batchChunkSize;
+
+    @ConfigProperty(name = "orders.lookup.max-ids", defaultValue = "500")
+    int lookupMaxIds;
+
     @POST
+    @PrimaryWrite
     @Operation(
         summary = "Create new order (reactive)",
         description = "Create a new order with items using reactive operations. Returns the created order with ID."
@@ -70,43 +143,7 @@ public class ReactiveOrderResource {
         )
     )
     public Uni<Response> createOrder(@Valid OrderRequest orderRequest, @Context UriInfo uriInfo) {
-        // Manual validation for empty items
-        if (orderRequest.getItems() == null || orderRequest.getItems().isEmpty()) {
-            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
-                "items", "Order must have at least one item"
-            );
-            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
-        }
-
-        // Validate individual items
-        java.util.Map<String, java.util.List<String>> validationErrors = new java.util.HashMap<>();
-
-        for (int i = 0; i < orderRequest.getItems().size(); i++) {
-            OrderItemRequest itemRequest = orderRequest.getItems().get(i);
-            String fieldPrefix = "items[" + i + "].";
-
-            // Validate quantity
-            if (itemRequest.getQuantity() == null ||
-                itemRequest.getQuantity().toString().trim().isEmpty() ||
-                itemRequest.getQuantity() <= 0) {
-                validationErrors.computeIfAbsent("quantity", k -> new java.util.ArrayList<>())
-                    .add("Quantity is required and must be greater than 0");
-            }
-
-            // Validate price
-            if (itemRequest.getPrice() == null ||
-                itemRequest.getPrice().toString().trim().isEmpty() ||
-                itemRequest.getPrice().compareTo(java.math.BigDecimal.ZERO) <= 0) {
-                validationErrors.computeIfAbsent("price", k -> new java.util.ArrayList<>())
-                    .add("Price is required and must be greater than 0");
-            }
-
-            // Validate productName
-            if (itemRequest.getProductName() == null || itemRequest.getProductName().trim().isEmpty()) {
-                validationErrors.computeIfAbsent("productName", k -> new java.util.ArrayList<>())
-                    .add("Product name is required");
-            }
-        }
+        java.util.Map<String, java.util.List<String>> validationErrors = validateOrderRequest(orderRequest);
 
         // If there are validation errors, return them
         if (!validationErrors.isEmpty()) {
@@ -119,21 +156,11 @@ public class ReactiveOrderResource {
             return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
         }
 
-        ReactiveOrder order = new ReactiveOrder();
-        order.setCustomerName(orderRequest.getCustomerName());
-        if (orderRequest.getOrderDate() != null) {
-            order.setOrderDate(orderRequest.getOrderDate());
-        }
-
-        for (OrderItemRequest itemRequest : orderRequest.getItems()) {
-            ReactiveOrderItem item = new ReactiveOrderItem();
-            item.setProductName(itemRequest.getProductName());
-            item.setQuantity(itemRequest.getQuantity());
-            item.setPrice(itemRequest.getPrice());
-            order.addItem(item);
-        }
+        ReactiveOrder order = toReactiveOrder(orderRequest);
 
-        return order.<ReactiveOrder>persist()
+        // Fired after the commit: without a JTA transaction the AFTER_SUCCESS observers are notified at once
+        return Panache.withTransaction(order::<ReactiveOrder>persist)
+                .onItem().invoke(persistedOrder -> orderEvents.fire(OrderChangedEvent.created(persistedOrder)))
                 .onItem().transform(persistedOrder -> {
                     OrderResponse orderData = convertToOrderResponse(persistedOrder);
                     ApiResponse<OrderResponse> response = new ApiResponse<>(
@@ -156,12 +183,164 @@ public class ReactiveOrderResource {
                 });
     }
 
+    @POST
+    @PrimaryWrite
+    @Path("/batch")
+    @Operation(
+        summary = "Create orders in bulk (reactive)",
+        description = "Create many orders in chunked reactive transactions using statement batching. Every order gets its own result; a failing order does not roll back the rest of the batch."
+    )
+    @APIResponses(
+        value = {
+            @APIResponse(
+                responseCode = "201",
+                description = "All orders created successfully (reactive)"
+            ),
+            @APIResponse(
+                responseCode = "207",
+                description = "Some orders failed, see the per-order results"
+            ),
+            @APIResponse(
+                responseCode = "400",
+                description = "Bad request - empty or oversized batch"
+            )
+        }
+    )
+    public Uni<Response> createOrdersBatch(List<OrderRequest> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
+                "orders", "Batch must contain at least one order"
+            );
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+        if (orderRequests.size() > batchMaxSize) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(
+                "Batch must not contain more than " + batchMaxSize + " orders"
+            );
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+
+        BatchOrderResult[] results = new BatchOrderResult[orderRequests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < orderRequests.size(); i++) {
+            java.util.Map<String, java.util.List<String>> validationErrors = validateBatchEntry(orderRequests.get(i));
+            if (validationErrors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BatchOrderResult.failed(i, "Validation failed", validationErrors);
+            }
+        }
+
+        int chunkSize = Math.max(1, batchChunkSize);
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+            chunks.add(validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size())));
+        }
+
+        // Chunks run one after another, each in its own session and transaction
+        return Multi.createFrom().iterable(chunks)
+                .onItem().transformToUniAndConcatenate(chunk -> persistChunk(orderRequests, chunk, results))
+                .collect().asList()
+                .onItem().transform(ignored -> {
+                    BatchOrderResponse batchData = BatchOrderResponse.of(Arrays.asList(results));
+                    if (batchData.getFailed() == 0) {
+                        ApiResponse<BatchOrderResponse> response = new ApiResponse<>(
+                            201,
+                            "CREATED",
+                            batchData.getSucceeded() + " orders created successfully",
+                            batchData
+                        );
+                        return Response.status(Response.Status.CREATED).entity(response).build();
+                    }
+
+                    ApiResponse<BatchOrderResponse> response = new ApiResponse<>(
+                        207,
+                        "MULTI_STATUS",
+                        batchData.getSucceeded() + " orders created, " + batchData.getFailed() + " failed",
+                        batchData
+                    );
+                    return Response.status(207).entity(response).build();
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    ApiResponse<Void> errorResponse = new ApiResponse<>(
+                        500,
+                        "INTERNAL_SERVER_ERROR",
+                        "Failed to process order batch: " + throwable.getMessage(),
+                        null
+                    );
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorResponse).build();
+                });
+    }
+
+    @POST
+    @Path("/lookup")
+    @Operation(
+        summary = "Get many orders by ID (reactive)",
+        description = "Fetch up to orders.lookup.max-ids orders with their items in two queries. Orders come back in the requested order; ids that do not exist are listed in missingIds instead of failing the call."
+    )
+    public Uni<Response> lookupOrders(OrderLookupRequest request) {
+        if (request == null || request.getIds() == null || request.getIds().isEmpty()) {
+            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
+                "ids", "At least one order id is required"
+            );
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+        if (request.getIds().contains(null)) {
+            ValidationErrorResponse errorResponse = ValidationErrorResponse.validationFailed(
+                "ids", "Order ids must not be null"
+            );
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+        if (request.getIds().size() > lookupMaxIds) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(
+                "Lookup must not contain more than " + lookupMaxIds + " ids"
+            );
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+
+        List<Long> ids = request.getIds().stream().distinct().collect(Collectors.toList());
+        return orderQueries.findByIds(ids)
+                .map(found -> {
+                    OrderLookupResponse lookup = OrderLookupResponse.of(ids, found);
+                    ApiResponse<OrderLookupResponse> response = new ApiResponse<>(
+                        200,
+                        "SUCCESS",
+                        lookup.getOrders().size() + " orders found, " + lookup.getMissingIds().size() + " missing",
+                        lookup
+                    );
+                    return Response.ok(response).build();
+                });
+    }
+
     @GET
+    @ReplicaRead
     @Path("/{id}")
-    public Uni<Response> getOrderById(@PathParam("id") Long id) {
-        return ReactiveOrder.findByIdOptionalReactive(id)
-                .onItem().transform(orderOpt -> {
-                    if (orderOpt == null) {
+    public Uni<Response> getOrderById(
+            @PathParam("id") Long id,
+            @QueryParam("fields") String fields,
+            @QueryParam("include") String include,
+            @Context Request request) {
+
+        OrderFields orderFields;
+        try {
+            orderFields = OrderFields.fromParams(fields, include);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(e.getMessage());
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+
+        // Full orders are served from the response cache, revalidated with If-None-Match
+        boolean cacheable = orderFields.isAll();
+        if (cacheable) {
+            Optional<OrderResponseCache.CachedOrder> cached = orderCache.get(id);
+            if (cached.isPresent()) {
+                return Uni.createFrom().item(cached.get().toResponse(request));
+            }
+        }
+
+        return coalescer.executeAsync("order", id + "|" + orderFields.key(), () -> orderQueries.findById(id, orderFields))
+                .onItem().transform(orderData -> {
+                    if (orderData == null) {
                         ApiResponse<Void> response = new ApiResponse<>(
                             404,
                             "NOT_FOUND",
@@ -171,32 +350,133 @@ public class ReactiveOrderResource {
                         return Response.status(Response.Status.NOT_FOUND).entity(response).build();
                     }
 
-                    OrderResponse orderData = convertToOrderResponse(orderOpt);
                     ApiResponse<OrderResponse> response = new ApiResponse<>(
                         200,
                         "SUCCESS",
                         "Order retrieved successfully",
                         orderData
                     );
+                    if (cacheable) {
+                        return orderCache.put(id, response).toResponse(request);
+                    }
                     return Response.ok(response).build();
                 });
     }
 
     @GET
-    public Uni<Response> getOrders() {
-        // Simple reactive GET that returns a message
-        return Uni.createFrom().item(() -> {
-            ApiResponse<String> response = new ApiResponse<>(
-                200,
-                "SUCCESS",
-                "Reactive orders endpoint is working. For data operations, please use POST to create orders or use /orders for full CRUD operations.",
-                "Reactive GET is limited due to session management complexities in current setup."
+    @ReplicaRead
+    public Uni<Response> getOrders(
+            @QueryParam("page") @DefaultValue("1") int pageIndex,
+            @QueryParam("size") @DefaultValue("20") int pageSize,
+            @QueryParam("sort") @DefaultValue("id") String sortBy,
+            @QueryParam("order") @DefaultValue("desc") String sortOrder,
+            @QueryParam("customerName") String customerName,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("total") @DefaultValue("exact") String total,
+            @QueryParam("fields") String fields,
+            @QueryParam("include") String include) {
+
+        // Convert 1-based page index to 0-based for internal use
+        int page = Math.max(0, pageIndex - 1);
+        int size = Math.min(100, Math.max(1, pageSize));
+        boolean descending = sortOrder.equalsIgnoreCase("desc");
+        String filter = customerName != null && !customerName.trim().isEmpty() ? customerName : null;
+        String message = "Orders retrieved successfully";
+        OrderFields orderFields;
+        try {
+            orderFields = OrderFields.fromParams(fields, include);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(e.getMessage());
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+
+        // Only index-backed fields can be sorted on, anything else is rejected before touching the database
+        Optional<OrderSortField> sortField = OrderSortField.fromProperty(sortBy);
+        if (sortField.isEmpty()) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(
+                "Unsupported sort field '" + sortBy + "'. Supported fields: " + OrderSortField.supportedProperties()
             );
-            return Response.ok(response).build();
-        });
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+
+        // Queries run one after another: a reactive session must not be used concurrently
+        return Uni.createFrom().item(() -> TotalMode.fromParam(total))
+                .chain(totalMode -> {
+                    if (cursor != null) {
+                        OrderCursor position = cursor.isBlank()
+                            ? OrderCursor.first(sortField.get(), descending)
+                            : OrderCursor.decode(cursor);
+                        return orderQueries.findPage(filter, position, size + 1,
+                                    orderFields.with(position.getSortField().getProperty()))
+                                .chain(orders -> {
+                                    // One extra row was fetched to know whether there is a next page
+                                    boolean hasNext = orders.size() > size;
+                                    List<OrderResponse> pageOrders = hasNext ? orders.subList(0, size) : orders;
+                                    String nextCursor = null;
+                                    if (hasNext) {
+                                        OrderResponse last = pageOrders.get(pageOrders.size() - 1);
+                                        nextCursor = position.next(position.getSortField().valueOf(last), last.getId()).encode();
+                                    }
+                                    String pageCursor = nextCursor;
+                                    return orderCounts.countReactive(totalMode, filter)
+                                            .map(totalElements -> pageResponse(pageOrders, message,
+                                                PaginatedApiResponse.PaginationInfo.cursor(
+                                                    totalElements, totalMode, size, pageCursor, hasNext)));
+                                });
+                    }
+
+                    return orderQueries.findPage(filter, sortField.get(), descending, page * size, size + 1, orderFields)
+                            .chain(orders -> {
+                                // One extra row was fetched to know whether there is a next page
+                                boolean hasNext = orders.size() > size;
+                                List<OrderResponse> pageOrders = hasNext ? orders.subList(0, size) : orders;
+                                return orderCounts.countReactive(totalMode, filter)
+                                        .map(totalElements -> pageResponse(pageOrders, message,
+                                            PaginatedApiResponse.PaginationInfo.offset(
+                                                totalElements, totalMode, pageIndex, size, hasNext)));
+                            });
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    ApiResponse<Void> errorResponse = new ApiResponse<>(
+                        400,
+                        "BAD_REQUEST",
+                        "Failed to retrieve orders: " + throwable.getMessage(),
+                        null
+                    );
+                    return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+                });
     }
 
     @GET
+    @ReplicaRead
+    @Path("/export")
+    @Produces({"application/x-ndjson", MediaType.SERVER_SENT_EVENTS})
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<OrderResponse> exportOrders(
+            @QueryParam("customerName") String customerName,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to) {
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = from != null && !from.isBlank() ? LocalDate.parse(from) : null;
+            endDate = to != null && !to.isBlank() ? LocalDate.parse(to) : null;
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(Response.status(Response.Status.BAD_REQUEST).type(MediaType.APPLICATION_JSON)
+                .entity(ApiResponse.badRequest("Invalid date, expected yyyy-MM-dd: " + e.getParsedString())).build());
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException(Response.status(Response.Status.BAD_REQUEST).type(MediaType.APPLICATION_JSON)
+                .entity(ApiResponse.badRequest("'from' must not be after 'to'")).build());
+        }
+
+        String filter = customerName != null && !customerName.trim().isEmpty() ? customerName : null;
+        return orderQueries.export(filter, startDate, endDate);
+    }
+
+    @GET
+    @ReplicaRead
     @Path("/customers/spending")
     public Uni<Response> getTotalSpendingPerCustomer(
             @QueryParam("page") @DefaultValue("1") int pageIndex,
@@ -206,22 +486,15 @@ public class ReactiveOrderResource {
         int page = Math.max(0, pageIndex - 1);
         int size = Math.min(100, Math.max(1, pageSize));
 
-        return ReactiveOrder.getTotalSpendingPerCustomer()
-                .onItem().transform(allCustomerSpendings -> {
-                    long totalElements = allCustomerSpendings.size();
-
-                    // Apply pagination manually
-                    int startIndex = page * size;
-                    int endIndex = Math.min(startIndex + size, (int) totalElements);
-
-                    List<CustomerSpending> customerSpendings;
-                    if (startIndex >= totalElements) {
-                        // If start index is beyond the list, return empty list
-                        customerSpendings = List.of();
-                    } else {
-                        customerSpendings = allCustomerSpendings.subList(startIndex, endIndex);
-                    }
-
+        // Only the requested page is read; the count runs after it (same session on the primary)
+        boolean replica = readTarget.isReplica();
+        return coalescer.executeAsync("customer-spending", page + "|" + size, () -> replica
+                        ? replicaSpending.page(page, size)
+                                .chain(content -> replicaSpending.count().map(total -> new SpendingPage(content, total)))
+                        : ReactiveOrder.getTotalSpendingPerCustomer(page, size)
+                                .chain(content -> ReactiveOrder.countCustomers().map(total -> new SpendingPage(content, total))))
+                .map(spendingPage -> {
+                    long totalElements = spendingPage.totalElements();
                     PaginatedApiResponse.PaginationInfo paginationInfo =
                         new PaginatedApiResponse.PaginationInfo(totalElements, pageIndex, size, (int) Math.ceil((double) totalElements / size));
 
@@ -229,7 +502,7 @@ public class ReactiveOrderResource {
                         200,
                         "SUCCESS",
                         "Customer spending data retrieved successfully",
-                        customerSpendings,
+                        spendingPage.content(),
                         paginationInfo
                     );
 
@@ -247,53 +520,124 @@ public class ReactiveOrderResource {
     }
 
     @GET
+    @Path("/customers/top")
+    public Uni<Response> getTopCustomers(@QueryParam("limit") @DefaultValue("10") int limit) {
+        return Uni.createFrom().item(() -> {
+            List<CustomerRank> ranks = leaderboard.top(Math.min(100, Math.max(1, limit)));
+            ApiResponse<List<CustomerRank>> response = new ApiResponse<>(
+                200,
+                "SUCCESS",
+                "Top customers retrieved successfully",
+                ranks
+            );
+            return Response.ok(response).build();
+        });
+    }
+
+    @GET
+    @Path("/customers/{customerName}/rank")
+    public Uni<Response> getCustomerRank(@PathParam("customerName") String customerName) {
+        return Uni.createFrom().item(() -> leaderboard.rankOf(customerName)
+                .map(rank -> {
+                    ApiResponse<CustomerRank> response = new ApiResponse<>(
+                        200,
+                        "SUCCESS",
+                        "Customer rank retrieved successfully",
+                        rank
+                    );
+                    return Response.ok(response).build();
+                })
+                .orElseGet(() -> {
+                    ApiResponse<Void> response = new ApiResponse<>(
+                        404,
+                        "NOT_FOUND",
+                        "Customer '" + customerName + "' has no orders",
+                        null
+                    );
+                    return Response.status(Response.Status.NOT_FOUND).entity(response).build();
+                }));
+    }
+
+    @GET
+    @ReplicaRead
     @Path("/customers/{customerName}")
     public Uni<Response> getOrdersByCustomer(
             @PathParam("customerName") String customerName,
             @QueryParam("page") @DefaultValue("1") int pageIndex,
-            @QueryParam("size") @DefaultValue("20") int pageSize) {
+            @QueryParam("size") @DefaultValue("20") int pageSize,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("total") @DefaultValue("exact") String total,
+            @QueryParam("fields") String fields,
+            @QueryParam("include") String include) {
 
         // Convert 1-based page index to 0-based for internal use
         int page = Math.max(0, pageIndex - 1);
         int size = Math.min(100, Math.max(1, pageSize));
+        String message = "Orders for customer '" + customerName + "' retrieved successfully";
+        OrderFields orderFields;
+        try {
+            orderFields = OrderFields.fromParams(fields, include);
+        } catch (IllegalArgumentException e) {
+            ApiResponse<Void> errorResponse = ApiResponse.badRequest(e.getMessage());
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
 
-        return Uni.combine().all().unis(
-                ReactiveOrder.findByCustomerNameWithPagination(customerName, page, size),
-                ReactiveOrder.countByCustomerName(customerName)
-            ).combinedWith((orders, totalElements) -> {
-                List<OrderResponse> orderResponses = orders.stream()
-                        .map(this::convertToOrderResponse)
-                        .collect(Collectors.toList());
-
-                PaginatedApiResponse.PaginationInfo paginationInfo =
-                    new PaginatedApiResponse.PaginationInfo(totalElements, pageIndex, size, (int) Math.ceil((double) totalElements / size));
-
-                PaginatedApiResponse<OrderResponse> response = new PaginatedApiResponse<>(
-                    200,
-                    "SUCCESS",
-                    "Orders for customer '" + customerName + "' retrieved successfully",
-                    orderResponses,
-                    paginationInfo
-                );
-
-                return Response.ok(response).build();
-            })
-            .onFailure().recoverWithItem(throwable -> {
-                ApiResponse<Void> errorResponse = new ApiResponse<>(
-                    400,
-                    "BAD_REQUEST",
-                    "Failed to retrieve orders for customer: " + throwable.getMessage(),
-                    null
-                );
-                return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
-            });
+        // Queries run one after another: a reactive session must not be used concurrently
+        return Uni.createFrom().item(() -> TotalMode.fromParam(total))
+                .chain(totalMode -> {
+                    if (cursor != null) {
+                        OrderCursor position = cursor.isBlank()
+                            ? OrderCursor.first(OrderSortField.ORDER_DATE, true)
+                            : OrderCursor.decode(cursor);
+                        return orderQueries.findPage(customerName, position, size + 1,
+                                    orderFields.with(position.getSortField().getProperty()))
+                                .chain(orders -> {
+                                    // One extra row was fetched to know whether there is a next page
+                                    boolean hasNext = orders.size() > size;
+                                    List<OrderResponse> pageOrders = hasNext ? orders.subList(0, size) : orders;
+                                    String nextCursor = null;
+                                    if (hasNext) {
+                                        OrderResponse last = pageOrders.get(pageOrders.size() - 1);
+                                        nextCursor = position.next(position.getSortField().valueOf(last), last.getId()).encode();
+                                    }
+                                    String pageCursor = nextCursor;
+                                    return orderCounts.countReactive(totalMode, customerName)
+                                            .map(totalElements -> pageResponse(pageOrders, message,
+                                                PaginatedApiResponse.PaginationInfo.cursor(
+                                                    totalElements, totalMode, size, pageCursor, hasNext)));
+                                });
+                    }
+
+                    // Same order as #ReactiveOrder.findByCustomerName
+                    return orderQueries.findPage(customerName, OrderSortField.ORDER_DATE, true, page * size, size + 1, orderFields)
+                            .chain(orders -> {
+                                // One extra row was fetched to know whether there is a next page
+                                boolean hasNext = orders.size() > size;
+                                List<OrderResponse> pageOrders = hasNext ? orders.subList(0, size) : orders;
+                                return orderCounts.countReactive(totalMode, customerName)
+                                        .map(totalElements -> pageResponse(pageOrders, message,
+                                            PaginatedApiResponse.PaginationInfo.offset(
+                                                totalElements, totalMode, pageIndex, size, hasNext)));
+                            });
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    ApiResponse<Void> errorResponse = new ApiResponse<>(
+                        400,
+                        "BAD_REQUEST",
+                        "Failed to retrieve orders for customer: " + throwable.getMessage(),
+                        null
+                    );
+                    return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+                });
     }
 
     @DELETE
+    @PrimaryWrite
     @Path("/{id}")
     public Uni<Response> deleteOrder(@PathParam("id") Long id) {
-        return ReactiveOrder.findByIdOptionalReactive(id)
-                .onItem().transformToUni(orderOpt -> {
+        return Panache.withTransaction(() -> ReactiveOrder.findByIdOptionalReactive(id)
+                        .onItem().ifNotNull().call(order -> order.delete()))
+                .onItem().transform(orderOpt -> {
                     if (orderOpt == null) {
                         ApiResponse<Void> response = new ApiResponse<>(
                             404,
@@ -301,19 +645,18 @@ public class ReactiveOrderResource {
                             "Order not found",
                             null
                         );
-                        return Uni.createFrom().item(Response.status(Response.Status.NOT_FOUND).entity(response).build());
+                        return Response.status(Response.Status.NOT_FOUND).entity(response).build();
                     }
 
-                    return orderOpt.delete()
-                            .onItem().transform(deleted -> {
-                                ApiResponse<Void> response = new ApiResponse<>(
-                                    204,
-                                    "NO_CONTENT",
-                                    "Order deleted successfully",
-                                    null
-                                );
-                                return Response.noContent().entity(response).build();
-                            });
+                    // Committed by now, see createOrder
+                    orderEvents.fire(OrderChangedEvent.deleted(orderOpt));
+                    ApiResponse<Void> response = new ApiResponse<>(
+                        204,
+                        "NO_CONTENT",
+                        "Order deleted successfully",
+                        null
+                    );
+                    return Response.noContent().entity(response).build();
                 })
                 .onFailure().recoverWithItem(throwable -> {
                     ApiResponse<Void> errorResponse = new ApiResponse<>(
@@ -326,6 +669,123 @@ public class ReactiveOrderResource {
                 });
     }
 
+    private java.util.Map<String, java.util.List<String>> validateOrderRequest(OrderRequest orderRequest) {
+        java.util.Map<String, java.util.List<String>> validationErrors = new java.util.HashMap<>();
+
+        // Manual validation for empty items
+        if (orderRequest.getItems() == null || orderRequest.getItems().isEmpty()) {
+            validationErrors.put("items", new java.util.ArrayList<>(List.of("Order must have at least one item")));
+            return validationErrors;
+        }
+
+        // Validate individual items
+        for (OrderItemRequest itemRequest : orderRequest.getItems()) {
+            // Validate quantity
+            if (itemRequest.getQuantity() == null ||
+                itemRequest.getQuantity().toString().trim().isEmpty() ||
+                itemRequest.getQuantity() <= 0) {
+                validationErrors.computeIfAbsent("quantity", k -> new java.util.ArrayList<>())
+                    .add("Quantity is required and must be greater than 0");
+            }
+
+            // Validate price
+            if (itemRequest.getPrice() == null ||
+                itemRequest.getPrice().toString().trim().isEmpty() ||
+                itemRequest.getPrice().compareTo(java.math.BigDecimal.ZERO) <= 0) {
+                validationErrors.computeIfAbsent("price", k -> new java.util.ArrayList<>())
+                    .add("Price is required and must be greater than 0");
+            }
+
+            // Validate productName
+            if (itemRequest.getProductName() == null || itemRequest.getProductName().trim().isEmpty()) {
+                validationErrors.computeIfAbsent("productName", k -> new java.util.ArrayList<>())
+                    .add("Product name is required");
+            }
+        }
+
+        return validationErrors;
+    }
+
+    // Batch entries are not covered by @Valid, so run the bean constraints per order as well
+    private java.util.Map<String, java.util.List<String>> validateBatchEntry(OrderRequest orderRequest) {
+        if (orderRequest == null) {
+            java.util.Map<String, java.util.List<String>> validationErrors = new java.util.HashMap<>();
+            validationErrors.put("order", new java.util.ArrayList<>(List.of("Order is required")));
+            return validationErrors;
+        }
+
+        java.util.Set<jakarta.validation.ConstraintViolation<?>> violations = new java.util.HashSet<>(validator.validate(orderRequest));
+        java.util.Map<String, java.util.List<String>> validationErrors = violations.isEmpty()
+                ? new java.util.HashMap<>()
+                : ValidationErrorResponse.fromConstraintViolations(violations).getErrors();
+        validateOrderRequest(orderRequest).forEach((field, messages) ->
+                validationErrors.computeIfAbsent(field, k -> new java.util.ArrayList<>()).addAll(messages));
+        return validationErrors;
+    }
+
+    private ReactiveOrder toReactiveOrder(OrderRequest orderRequest) {
+        ReactiveOrder order = new ReactiveOrder();
+        order.setCustomerName(orderRequest.getCustomerName());
+        if (orderRequest.getOrderDate() != null) {
+            order.setOrderDate(orderRequest.getOrderDate());
+        }
+
+        for (OrderItemRequest itemRequest : orderRequest.getItems()) {
+            ReactiveOrderItem item = new ReactiveOrderItem();
+            item.setProductName(itemRequest.getProductName());
+            item.setQuantity(itemRequest.getQuantity());
+            item.setPrice(itemRequest.getPrice());
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    private Uni<Void> persistChunk(List<OrderRequest> orderRequests, List<Integer> chunk, BatchOrderResult[] results) {
+        return persistOrders(orderRequests, chunk)
+                .onItem().invoke(orders -> {
+                    for (int j = 0; j < chunk.size(); j++) {
+                        ReactiveOrder order = orders.get(j);
+                        results[chunk.get(j)] = BatchOrderResult.created(chunk.get(j), order.id, order.getTotalAmount());
+                    }
+                })
+                .replaceWithVoid()
+                // Retry the chunk one order per transaction so only the bad orders fail
+                .onFailure().recoverWithUni(() -> Multi.createFrom().iterable(chunk)
+                        .onItem().transformToUniAndConcatenate(index -> persistOrders(orderRequests, List.of(index))
+                                .onItem().invoke(orders -> results[index] = BatchOrderResult.created(
+                                        index, orders.get(0).id, orders.get(0).getTotalAmount()))
+                                .onFailure().invoke(throwable -> results[index] = BatchOrderResult.failed(
+                                        index, "Failed to create order: " + throwable.getMessage(), null))
+                                .onFailure().recoverWithNull())
+                        .collect().asList()
+                        .replaceWithVoid());
+    }
+
+    private Uni<List<ReactiveOrder>> persistOrders(List<OrderRequest> orderRequests, List<Integer> indexes) {
+        // Insert in (customer, date) order, so concurrent chunks lock customer and rollup rows in the same order;
+        // the returned orders stay in the order of indexes
+        List<ReactiveOrder> orders = indexes.stream()
+                .map(index -> toReactiveOrder(orderRequests.get(index)))
+                .collect(Collectors.toList());
+        List<ReactiveOrder> insertOrder = new ArrayList<>(orders);
+        insertOrder.sort(Comparator.comparing(ReactiveOrder::getCustomerName).thenComparing(ReactiveOrder::getOrderDate));
+        return sessionFactory.withTransaction((session, transaction) -> session.persistAll(insertOrder.toArray()))
+                .invoke(() -> orders.forEach(order -> orderEvents.fire(OrderChangedEvent.created(order))))
+                .replaceWith(orders);
+    }
+
+    private Response pageResponse(List<OrderResponse> orderResponses, String message,
+                                  PaginatedApiResponse.PaginationInfo paginationInfo) {
+        PaginatedApiResponse<OrderResponse> response = new PaginatedApiResponse<>(
+            200,
+            "SUCCESS",
+            message,
+            orderResponses,
+            paginationInfo
+        );
+        return Response.ok(response).build();
+    }
+
     private OrderResponse convertToOrderResponse(ReactiveOrder order) {
         List<OrderItemResponse> itemResponses = null;
         if (order.getItems() != null) {
@@ -351,6 +811,10 @@ public class ReactiveOrderResource {
         );
     }
 
+    // One page of customer_spending plus the total, shared between coalesced requests
+    private record SpendingPage(List<CustomerSpending> content, long totalElements) {
+    }
+
     // Helper class for pagination response
     public static class PaginationResponse {
         private List<OrderResponse> content;
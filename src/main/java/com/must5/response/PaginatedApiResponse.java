@@ -1,6 +1,7 @@
 package com.must5.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.must5.pagination.TotalMode;
 import java.util.List;
 
 /**
@@ -87,41 +88,87 @@ public class PaginatedApiResponse<T> {
     /**
      * Pagination information helper class
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PaginationInfo {
-        private long total;
-        private int page;
+        private Long total;
+        private String totalType;
+        private Integer page;
         private int size;
-        private int totalPages;
+        private Integer totalPages;
+        private String nextCursor;
+        private Boolean hasNext;
 
         public PaginationInfo() {
         }
 
         public PaginationInfo(long total, int page, int size, int totalPages) {
             this.total = total;
+            this.totalType = TotalMode.EXACT.toParam();
             this.page = page;
             this.size = size;
             this.totalPages = totalPages;
         }
 
-        public long getTotal() { return total; }
-        public void setTotal(long total) { this.total = total; }
+        // total may be null when the client asked for ?total=none
+        public static PaginationInfo offset(Long total, TotalMode totalMode, int page, int size, boolean hasNext) {
+            PaginationInfo info = withTotal(total, totalMode, size);
+            info.page = page;
+            info.hasNext = hasNext;
+            return info;
+        }
+
+        // Keyset pagination has no page number, the client follows nextCursor instead
+        public static PaginationInfo cursor(Long total, TotalMode totalMode, int size, String nextCursor, boolean hasNext) {
+            PaginationInfo info = withTotal(total, totalMode, size);
+            info.nextCursor = nextCursor;
+            info.hasNext = hasNext;
+            return info;
+        }
+
+        private static PaginationInfo withTotal(Long total, TotalMode totalMode, int size) {
+            PaginationInfo info = new PaginationInfo();
+            info.size = size;
+            if (total != null) {
+                info.total = total;
+                info.totalType = totalMode.toParam();
+                info.totalPages = (int) Math.ceil((double) total / size);
+            } else {
+                info.totalType = TotalMode.NONE.toParam();
+            }
+            return info;
+        }
 
-        public int getPage() { return page; }
-        public void setPage(int page) { this.page = page; }
+        public Long getTotal() { return total; }
+        public void setTotal(Long total) { this.total = total; }
+
+        public String getTotalType() { return totalType; }
+        public void setTotalType(String totalType) { this.totalType = totalType; }
+
+        public Integer getPage() { return page; }
+        public void setPage(Integer page) { this.page = page; }
 
         public int getSize() { return size; }
         public void setSize(int size) { this.size = size; }
 
-        public int getTotalPages() { return totalPages; }
-        public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+        public Integer getTotalPages() { return totalPages; }
+        public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
+
+        public String getNextCursor() { return nextCursor; }
+        public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+        public Boolean getHasNext() { return hasNext; }
+        public void setHasNext(Boolean hasNext) { this.hasNext = hasNext; }
 
         @Override
         public String toString() {
             return "PaginationInfo{" +
                     "total=" + total +
+                    ", totalType='" + totalType + '\'' +
                     ", page=" + page +
                     ", size=" + size +
                     ", totalPages=" + totalPages +
+                    ", nextCursor='" + nextCursor + '\'' +
+                    ", hasNext=" + hasNext +
                     '}';
         }
     }
@@ -0,0 +1,18 @@
+package com.must5.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Registers {@link ResponseSerializers} on the ObjectMapper used by the REST layer, the
+ * order response cache and the export stream.
+ */
+@Singleton
+public class ResponseSerializationCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.registerModule(ResponseSerializers.module());
+    }
+}
@@ -0,0 +1,346 @@
+package com.must5.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderResponse;
+import com.must5.entity.CustomerSpending;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the fixed response shapes, registered on the application
+ * ObjectMapper by {@link ResponseSerializationCustomizer}. They write the same JSON as the
+ * annotated beans (property order, NON_NULL rules, {@code @JsonFormat} patterns) without bean
+ * introspection: field names are pre-encoded and dates are written digit by digit instead of
+ * going through a DateTimeFormatter. ResponseSerializersTest compares both outputs.
+ */
+public final class ResponseSerializers {
+
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString PAGINATE = new SerializedString("paginate");
+
+    private static final SerializableString TOTAL = new SerializedString("total");
+    private static final SerializableString TOTAL_TYPE = new SerializedString("totalType");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString NEXT_CURSOR = new SerializedString("nextCursor");
+    private static final SerializableString HAS_NEXT = new SerializedString("hasNext");
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CUSTOMER_NAME = new SerializedString("customerName");
+    private static final SerializableString ORDER_DATE = new SerializedString("orderDate");
+    private static final SerializableString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializableString ITEMS = new SerializedString("items");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializableString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializableString QUANTITY = new SerializedString("quantity");
+    private static final SerializableString PRICE = new SerializedString("price");
+    private static final SerializableString SUB_TOTAL = new SerializedString("subTotal");
+
+    private static final SerializableString TOTAL_SPENDING = new SerializedString("totalSpending");
+    private static final SerializableString TOTAL_ORDERS = new SerializedString("totalOrders");
+    private static final SerializableString AVERAGE_ORDER_VALUE = new SerializedString("averageOrderValue");
+    private static final SerializableString FIRST_ORDER_DATE = new SerializedString("firstOrderDate");
+    private static final SerializableString LAST_ORDER_DATE = new SerializedString("lastOrderDate");
+
+    // Only used for years outside 1..9999, which the digit writers do not handle
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private ResponseSerializers() {
+    }
+
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("ResponseSerializers");
+        module.addSerializer(new ApiResponseSerializer());
+        module.addSerializer(new PaginatedApiResponseSerializer());
+        module.addSerializer(new PaginationInfoSerializer());
+        module.addSerializer(new OrderResponseSerializer());
+        module.addSerializer(new OrderItemResponseSerializer());
+        module.addSerializer(new CustomerSpendingSerializer());
+        return module;
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+        ApiResponseSerializer() {
+            super(ApiResponse.class);
+        }
+
+        @Override
+        public void serialize(ApiResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CODE);
+            gen.writeNumber(value.getCode());
+            writeString(gen, STATUS, value.getStatus());
+            writeString(gen, MESSAGE, value.getMessage());
+            if (value.getData() != null) {
+                gen.writeFieldName(DATA);
+                provider.defaultSerializeValue(value.getData(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class PaginatedApiResponseSerializer extends StdSerializer<PaginatedApiResponse> {
+
+        PaginatedApiResponseSerializer() {
+            super(PaginatedApiResponse.class);
+        }
+
+        @Override
+        public void serialize(PaginatedApiResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CODE);
+            gen.writeNumber(value.getCode());
+            writeString(gen, STATUS, value.getStatus());
+            writeString(gen, MESSAGE, value.getMessage());
+            List<?> data = value.getData();
+            if (data != null) {
+                gen.writeFieldName(DATA);
+                gen.writeStartArray(data, data.size());
+                for (Object element : data) {
+                    provider.defaultSerializeValue(element, gen);
+                }
+                gen.writeEndArray();
+            }
+            if (value.getPaginate() != null) {
+                gen.writeFieldName(PAGINATE);
+                provider.defaultSerializeValue(value.getPaginate(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class PaginationInfoSerializer extends StdSerializer<PaginatedApiResponse.PaginationInfo> {
+
+        PaginationInfoSerializer() {
+            super(PaginatedApiResponse.PaginationInfo.class);
+        }
+
+        @Override
+        public void serialize(PaginatedApiResponse.PaginationInfo value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(value);
+            if (value.getTotal() != null) {
+                gen.writeFieldName(TOTAL);
+                gen.writeNumber(value.getTotal());
+            }
+            writeString(gen, TOTAL_TYPE, value.getTotalType());
+            if (value.getPage() != null) {
+                gen.writeFieldName(PAGE);
+                gen.writeNumber(value.getPage());
+            }
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(value.getSize());
+            if (value.getTotalPages() != null) {
+                gen.writeFieldName(TOTAL_PAGES);
+                gen.writeNumber(value.getTotalPages());
+            }
+            writeString(gen, NEXT_CURSOR, value.getNextCursor());
+            if (value.getHasNext() != null) {
+                gen.writeFieldName(HAS_NEXT);
+                gen.writeBoolean(value.getHasNext());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    // NON_NULL: fields left out of a sparse fieldset are skipped
+    static final class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+        OrderResponseSerializer() {
+            super(OrderResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            if (value.getId() != null) {
+                gen.writeFieldName(ID);
+                gen.writeNumber(value.getId());
+            }
+            writeString(gen, CUSTOMER_NAME, value.getCustomerName());
+            if (value.getOrderDate() != null) {
+                gen.writeFieldName(ORDER_DATE);
+                writeDate(gen, value.getOrderDate());
+            }
+            if (value.getTotalAmount() != null) {
+                gen.writeFieldName(TOTAL_AMOUNT);
+                gen.writeNumber(value.getTotalAmount());
+            }
+            List<OrderItemResponse> items = value.getItems();
+            if (items != null) {
+                gen.writeFieldName(ITEMS);
+                gen.writeStartArray(items, items.size());
+                for (OrderItemResponse item : items) {
+                    if (item == null) {
+                        gen.writeNull();
+                    } else {
+                        OrderItemResponseSerializer.write(item, gen);
+                    }
+                }
+                gen.writeEndArray();
+            }
+            if (value.getCreatedAt() != null) {
+                gen.writeFieldName(CREATED_AT);
+                writeDateTime(gen, value.getCreatedAt());
+            }
+            if (value.getUpdatedAt() != null) {
+                gen.writeFieldName(UPDATED_AT);
+                writeDateTime(gen, value.getUpdatedAt());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    // No NON_NULL on OrderItemResponse: null values are written
+    static final class OrderItemResponseSerializer extends StdSerializer<OrderItemResponse> {
+
+        OrderItemResponseSerializer() {
+            super(OrderItemResponse.class);
+        }
+
+        @Override
+        public void serialize(OrderItemResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(value, gen);
+        }
+
+        static void write(OrderItemResponse value, JsonGenerator gen) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(ID);
+            writeNumber(gen, value.getId());
+            gen.writeFieldName(PRODUCT_NAME);
+            gen.writeString(value.getProductName());
+            gen.writeFieldName(QUANTITY);
+            if (value.getQuantity() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value.getQuantity());
+            }
+            gen.writeFieldName(PRICE);
+            writeNumber(gen, value.getPrice());
+            gen.writeFieldName(SUB_TOTAL);
+            writeNumber(gen, value.getSubTotal());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CustomerSpendingSerializer extends StdSerializer<CustomerSpending> {
+
+        CustomerSpendingSerializer() {
+            super(CustomerSpending.class);
+        }
+
+        @Override
+        public void serialize(CustomerSpending value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CUSTOMER_NAME);
+            gen.writeString(value.getCustomerName());
+            gen.writeFieldName(TOTAL_SPENDING);
+            writeNumber(gen, value.getTotalSpending());
+            gen.writeFieldName(TOTAL_ORDERS);
+            writeNumber(gen, value.getTotalOrders());
+            gen.writeFieldName(AVERAGE_ORDER_VALUE);
+            writeNumber(gen, value.getAverageOrderValue());
+            gen.writeFieldName(FIRST_ORDER_DATE);
+            writeNullableDate(gen, value.getFirstOrderDate());
+            gen.writeFieldName(LAST_ORDER_DATE);
+            writeNullableDate(gen, value.getLastOrderDate());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNullableDate(JsonGenerator gen, LocalDate date) throws IOException {
+        if (date == null) {
+            gen.writeNull();
+        } else {
+            writeDate(gen, date);
+        }
+    }
+
+    // yyyy-MM-dd
+    static void writeDate(JsonGenerator gen, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            gen.writeString(DATE.format(date));
+            return;
+        }
+        char[] buffer = new char[10];
+        putDate(buffer, year, date.getMonthValue(), date.getDayOfMonth());
+        gen.writeString(buffer, 0, buffer.length);
+    }
+
+    // yyyy-MM-dd HH:mm:ss
+    static void writeDateTime(JsonGenerator gen, LocalDateTime dateTime) throws IOException {
+        int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            gen.writeString(DATE_TIME.format(dateTime));
+            return;
+        }
+        char[] buffer = new char[19];
+        putDate(buffer, year, dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        buffer[10] = ' ';
+        putTwoDigits(buffer, 11, dateTime.getHour());
+        buffer[13] = ':';
+        putTwoDigits(buffer, 14, dateTime.getMinute());
+        buffer[16] = ':';
+        putTwoDigits(buffer, 17, dateTime.getSecond());
+        gen.writeString(buffer, 0, buffer.length);
+    }
+
+    private static void putDate(char[] buffer, int year, int month, int day) {
+        putTwoDigits(buffer, 0, year / 100);
+        putTwoDigits(buffer, 2, year % 100);
+        buffer[4] = '-';
+        putTwoDigits(buffer, 5, month);
+        buffer[7] = '-';
+        putTwoDigits(buffer, 8, day);
+    }
+
+    private static void putTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
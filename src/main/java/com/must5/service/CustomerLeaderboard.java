@@ -0,0 +1,218 @@
+package com.must5.service;
+
+import com.must5.dto.CustomerRank;
+import com.must5.event.OrderChangedEvent;
+import com.must5.event.RemoteOrderChanges;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+import org.jboss.logging.Logger;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory ranking of customers by total spending.
+ * Seeded from customer_spending at startup, kept current by {@link OrderChangedEvent}s and
+ * the {@link RemoteOrderChanges} of other nodes, and periodically reconciled against the table
+ * to correct any drift (missed events or plain SQL).
+ * <p>
+ * A reconcile cannot tell whether an event that arrives while it runs is already part of the
+ * snapshot it read, and changes of other nodes arrive up to a bus coalesce window late. So it waits
+ * orders.leaderboard.reconcile-settle after reading, then leaves every customer that had an event
+ * in the meantime as it is; those are corrected by a later reconcile.
+ * <p>
+ * Incomplete remote changes only request a reconcile: any number of requests are coalesced into
+ * one, run by a job every orders.leaderboard.requested-check-interval, so bus threads never wait
+ * for a reconcile and a burst of overflows does not reconcile once per notification.
+ */
+@ApplicationScoped
+public class CustomerLeaderboard {
+
+    private static final Logger LOG = Logger.getLogger(CustomerLeaderboard.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    @ConfigProperty(name = "orders.leaderboard.reconcile-settle", defaultValue = "2s")
+    Duration settle;
+
+    private final Map<String, BigDecimal> totals = new HashMap<>();
+    private final RankTree ranking = new RankTree();
+    private final ReentrantLock reconciling = new ReentrantLock();
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+
+    // Net change per customer from events since the running reconcile started, null when none runs
+    private Map<String, BigDecimal> changedDuringReconcile;
+    private boolean seeded;
+
+    void onStart(@Observes StartupEvent event) {
+        reconcile(Duration.ZERO);
+    }
+
+    void onOrderChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderChangedEvent event) {
+        adjust(event.customerName(), event.spendingDelta());
+    }
+
+    void onRemoteChanges(@Observes RemoteOrderChanges changes) {
+        if (changes.incomplete()) {
+            reconcileRequested.set(true);
+        } else {
+            changes.spendingDeltas().forEach(this::adjust);
+        }
+    }
+
+    public synchronized Optional<CustomerRank> rankOf(String customerName) {
+        BigDecimal total = totals.get(customerName);
+        if (total == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new CustomerRank(customerName, ranking.countHigher(total) + 1, total, totals.size()));
+    }
+
+    public synchronized List<CustomerRank> top(int limit) {
+        List<CustomerRank> ranks = new ArrayList<>();
+        long rank = 0;
+        BigDecimal previous = null;
+        for (RankTree.Entry entry : ranking.top(limit)) {
+            // Equal totals share a rank, like get_customer_ranking
+            if (previous == null || entry.totalSpending().compareTo(previous) != 0) {
+                rank = ranks.size() + 1;
+            }
+            previous = entry.totalSpending();
+            ranks.add(new CustomerRank(entry.customerName(), rank, entry.totalSpending(), totals.size()));
+        }
+        return ranks;
+    }
+
+    @Scheduled(every = "{orders.leaderboard.reconcile-interval}", delayed = "{orders.leaderboard.reconcile-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconcile() {
+        reconcile(settle);
+    }
+
+    // A running reconcile keeps the request for the next check, its snapshot may predate the changes
+    @Scheduled(every = "{orders.leaderboard.requested-check-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconcileIfRequested() {
+        if (reconcileRequested.get() && !reconciling.isLocked()) {
+            reconcile();
+        }
+    }
+
+    boolean isReconcileRequested() {
+        return reconcileRequested.get();
+    }
+
+    // From the moment a reconcile records changes until it has applied its snapshot
+    synchronized boolean isReconciling() {
+        return changedDuringReconcile != null;
+    }
+
+    private void reconcile(Duration settleTime) {
+        reconciling.lock();
+        try {
+            // This reconcile reads after every change that requested it
+            reconcileRequested.set(false);
+            synchronized (this) {
+                changedDuringReconcile = new HashMap<>();
+            }
+            long readAt = System.nanoTime();
+            Map<String, BigDecimal> stored = new HashMap<>();
+            QuarkusTransaction.requiringNew().run(() -> {
+                try (Stream<Object[]> rows = entityManager
+                        .createQuery("SELECT customerName, totalSpending FROM CustomerSpending", Object[].class)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+                        .getResultStream()) {
+                    rows.forEach(row -> stored.put((String) row[0], (BigDecimal) row[1]));
+                }
+            });
+
+            // Lets changes committed before the read reach this node, so they are seen as changed below
+            long remaining = settleTime.toNanos() - (System.nanoTime() - readAt);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+
+            int corrected = apply(stored);
+            if (corrected > 0) {
+                LOG.infof("Customer leaderboard reconciled: %d of %d customers corrected", corrected, stored.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                changedDuringReconcile = null;
+            }
+            reconciling.unlock();
+        }
+    }
+
+    private synchronized int apply(Map<String, BigDecimal> stored) {
+        Map<String, BigDecimal> changed = changedDuringReconcile;
+        int corrected = 0;
+        for (Map.Entry<String, BigDecimal> entry : stored.entrySet()) {
+            BigDecimal expected = entry.getValue();
+            BigDecimal delta = changed.get(entry.getKey());
+            if (delta != null) {
+                if (seeded) {
+                    continue;
+                }
+                // Nothing to keep before the first reconcile, so the events are counted on top of the snapshot
+                expected = expected.add(delta);
+            }
+            BigDecimal current = totals.get(entry.getKey());
+            if (current == null || current.compareTo(expected) != 0) {
+                set(entry.getKey(), expected);
+                corrected++;
+            }
+        }
+        for (Iterator<Map.Entry<String, BigDecimal>> iterator = totals.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, BigDecimal> entry = iterator.next();
+            if (!stored.containsKey(entry.getKey()) && !changed.containsKey(entry.getKey())) {
+                ranking.remove(entry.getKey(), entry.getValue());
+                iterator.remove();
+                corrected++;
+            }
+        }
+        seeded = true;
+        return corrected;
+    }
+
+    private synchronized void adjust(String customerName, BigDecimal delta) {
+        if (changedDuringReconcile != null) {
+            changedDuringReconcile.merge(customerName, delta, BigDecimal::add);
+        }
+        BigDecimal current = totals.getOrDefault(customerName, BigDecimal.ZERO);
+        set(customerName, current.add(delta));
+    }
+
+    private void set(String customerName, BigDecimal total) {
+        BigDecimal current = totals.remove(customerName);
+        if (current != null) {
+            ranking.remove(customerName, current);
+        }
+        // Order amounts are positive, so a customer without spending has no orders left
+        if (total.signum() > 0) {
+            totals.put(customerName, total);
+            ranking.insert(customerName, total);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.must5.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.must5.event.OrderChangedEvent;
+import com.must5.event.RemoteOrderChanges;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-node invalidation over Postgres LISTEN/NOTIFY.
+ * Committed local changes ({@link OrderChangedEvent}) are merged for orders.bus.coalesce-window
+ * and published as one pg_notify on the primary; every node listens through the reactive pg
+ * client and fires the changes of other nodes as {@link RemoteOrderChanges}.
+ * A burst that does not fit in one notification (8000 bytes) is split over several; only one that
+ * would need more than MAX_NOTIFICATIONS is sent as an overflow. A node that reconnects after
+ * losing its subscription fires a full overflow locally, since it may have missed notifications
+ * in between.
+ */
+@ApplicationScoped
+public class OrderChangeBus {
+
+    static final String CHANNEL = "order_changes";
+
+    private static final Logger LOG = Logger.getLogger(OrderChangeBus.class);
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int MAX_NOTIFICATIONS = 64;
+
+    private final String node = UUID.randomUUID().toString();
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Event<RemoteOrderChanges> remoteChanges;
+
+    @ConfigProperty(name = "orders.bus.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "orders.bus.coalesce-window", defaultValue = "100ms")
+    Duration coalesceWindow;
+
+    @ConfigProperty(name = "quarkus.datasource.reactive.url")
+    String reactiveUrl;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    String username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    String password;
+
+    private PgSubscriber subscriber;
+    private boolean subscribed;
+
+    // Changes waiting for the next flush, null when no flush is scheduled
+    private Pending pending;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        PgConnectOptions options = PgConnectOptions.fromUri(reactiveUrl).setUser(username).setPassword(password);
+        subscriber = PgSubscriber.subscriber(vertx, options).reconnectPolicy(retries -> 1_000L);
+        subscriber.channel(CHANNEL)
+                .subscribeHandler(this::onSubscribed)
+                .handler(this::receive);
+        subscriber.connect().subscribe().with(
+                ignored -> LOG.infof("Listening for order changes of other nodes on '%s'", CHANNEL),
+                failure -> LOG.warnf(failure, "Could not listen on '%s', caches will only see local changes", CHANNEL));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (subscriber != null) {
+            subscriber.closeAndForget();
+        }
+    }
+
+    void onOrderChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        boolean schedule;
+        synchronized (this) {
+            schedule = pending == null;
+            if (schedule) {
+                pending = new Pending();
+            }
+            pending.add(event);
+        }
+        if (schedule) {
+            vertx.setTimer(Math.max(1, coalesceWindow.toMillis()), id -> flush());
+        }
+    }
+
+    private void flush() {
+        Pending changes;
+        synchronized (this) {
+            changes = pending;
+            pending = null;
+        }
+        List<String> payloads = new ArrayList<>();
+        if (!split(changes.toRemote(node), payloads)) {
+            payloads.clear();
+            payloads.add(toJson(RemoteOrderChanges.overflow(node, changes.deletedOrderIds.isEmpty()
+                    ? RemoteOrderChanges.Overflow.CREATES
+                    : RemoteOrderChanges.Overflow.ALL)));
+        }
+        pool.preparedQuery("SELECT pg_notify($1, $2)")
+                .executeBatch(payloads.stream().map(payload -> Tuple.of(CHANNEL, payload)).collect(Collectors.toList()))
+                .subscribe().with(
+                        ignored -> { },
+                        failure -> LOG.warnf(failure, "Could not publish order changes, other nodes keep stale caches"));
+    }
+
+    /**
+     * Adds the payloads of the changes to the list, halving them until every part fits in one
+     * notification. Deltas add up, so the parts can be applied in any order.
+     *
+     * @return false when the changes need more than MAX_NOTIFICATIONS notifications
+     */
+    private boolean split(RemoteOrderChanges changes, List<String> payloads) {
+        String payload = toJson(changes);
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+            payloads.add(payload);
+            return payloads.size() <= MAX_NOTIFICATIONS;
+        }
+        int entries = changes.deletedOrderIds().size() + changes.spendingDeltas().size() + changes.productQuantities().size();
+        if (entries <= 1) {
+            return false;
+        }
+        Pending first = new Pending();
+        Pending second = new Pending();
+        int index = 0;
+        for (Long id : changes.deletedOrderIds()) {
+            (index++ < entries / 2 ? first : second).deletedOrderIds.add(id);
+        }
+        for (Map.Entry<String, BigDecimal> delta : changes.spendingDeltas().entrySet()) {
+            (index++ < entries / 2 ? first : second).spendingDeltas.put(delta.getKey(), delta.getValue());
+        }
+        for (Map.Entry<String, Integer> quantity : changes.productQuantities().entrySet()) {
+            (index++ < entries / 2 ? first : second).productQuantities.put(quantity.getKey(), quantity.getValue());
+        }
+        return split(first.toRemote(node), payloads) && split(second.toRemote(node), payloads);
+    }
+
+    private void onSubscribed() {
+        boolean resubscribed;
+        synchronized (this) {
+            resubscribed = subscribed;
+            subscribed = true;
+        }
+        if (resubscribed) {
+            LOG.info("Order change subscription restored, dropping order caches");
+            fire(RemoteOrderChanges.overflow(node, RemoteOrderChanges.Overflow.ALL));
+        }
+    }
+
+    private void receive(String payload) {
+        RemoteOrderChanges changes;
+        try {
+            changes = objectMapper.readValue(payload, RemoteOrderChanges.class);
+        } catch (JsonProcessingException e) {
+            LOG.warnf(e, "Ignoring unreadable order change notification");
+            return;
+        }
+        if (!node.equals(changes.node())) {
+            fire(changes);
+        }
+    }
+
+    // Observers may block (e.g. a leaderboard reconcile), so keep them off the event loop
+    private void fire(RemoteOrderChanges changes) {
+        Infrastructure.getDefaultWorkerPool().execute(() -> remoteChanges.fire(changes));
+    }
+
+    private String toJson(RemoteOrderChanges changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Pending {
+
+        private final Set<Long> deletedOrderIds = new HashSet<>();
+        private final Map<String, BigDecimal> spendingDeltas = new HashMap<>();
+        private final Map<String, Integer> productQuantities = new HashMap<>();
+
+        void add(OrderChangedEvent event) {
+            if (event.type() == OrderChangedEvent.Type.DELETED) {
+                deletedOrderIds.add(event.orderId());
+            } else {
+                event.productQuantities().forEach((product, quantity) -> productQuantities.merge(product, quantity, Integer::sum));
+            }
+            spendingDeltas.merge(event.customerName(), event.spendingDelta(), BigDecimal::add);
+        }
+
+        RemoteOrderChanges toRemote(String node) {
+            return new RemoteOrderChanges(node, deletedOrderIds, spendingDeltas, productQuantities,
+                    RemoteOrderChanges.Overflow.NONE);
+        }
+    }
+}
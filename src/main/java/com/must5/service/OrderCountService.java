@@ -0,0 +1,113 @@
+package com.must5.service;
+
+import com.must5.entity.Order;
+import com.must5.entity.ReactiveOrder;
+import com.must5.pagination.TotalMode;
+import com.must5.replica.ReadTarget;
+import com.must5.replica.ReplicaOrderQueries;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Computes listing totals according to the requested {@link TotalMode}.
+ * Estimates for the whole table come from pg_class; filtered estimates are exact
+ * counts cached for a short time per filter, so repeated page requests do not
+ * re-count the same customer.
+ */
+@ApplicationScoped
+public class OrderCountService {
+
+    private static final String ALL_ORDERS_KEY = "orders:all";
+    private static final int MAX_CACHED_FILTERS = 10_000;
+
+    @ConfigProperty(name = "orders.count.cache-ttl", defaultValue = "30s")
+    Duration cacheTtl;
+
+    @Inject
+    ReadTarget readTarget;
+
+    @Inject
+    ReplicaOrderQueries replicaOrders;
+
+    private final ConcurrentHashMap<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    public Long count(TotalMode mode, String customerName) {
+        return switch (mode) {
+            case EXACT -> customerName != null ? Order.countByCustomerName(customerName) : Order.count();
+            case ESTIMATE -> customerName != null
+                    ? cached(customerKey(customerName), () -> Order.countByCustomerName(customerName))
+                    : estimateAll();
+            case NONE -> null;
+        };
+    }
+
+    public Uni<Long> countReactive(TotalMode mode, String customerName) {
+        // The count follows the page to the replica when the request was routed there
+        boolean replica = readTarget.isReplica();
+        Supplier<Uni<Long>> countAll = replica ? () -> replicaOrders.count(null) : ReactiveOrder::countReactive;
+        Supplier<Uni<Long>> countCustomer = replica
+                ? () -> replicaOrders.count(customerName)
+                : () -> ReactiveOrder.countByCustomerName(customerName);
+        Supplier<Uni<Long>> estimate = replica ? replicaOrders::estimateCount : ReactiveOrder::estimateCount;
+        return switch (mode) {
+            case EXACT -> customerName != null ? countCustomer.get() : countAll.get();
+            case ESTIMATE -> customerName != null
+                    ? cachedReactive(customerKey(customerName), countCustomer)
+                    : estimate.get().chain(value -> value > 0
+                            ? Uni.createFrom().item(value)
+                            : cachedReactive(ALL_ORDERS_KEY, countAll));
+            case NONE -> Uni.createFrom().nullItem();
+        };
+    }
+
+    public void invalidate() {
+        cachedCounts.clear();
+    }
+
+    private long estimateAll() {
+        long estimate = Order.estimateCount();
+        // reltuples is -1 (or 0) until the table has been vacuumed or analyzed
+        return estimate > 0 ? estimate : cached(ALL_ORDERS_KEY, Order::count);
+    }
+
+    private long cached(String key, Supplier<Long> loader) {
+        CachedCount cached = cachedCounts.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached.value;
+        }
+        long value = loader.get();
+        store(key, value);
+        return value;
+    }
+
+    private Uni<Long> cachedReactive(String key, Supplier<Uni<Long>> loader) {
+        CachedCount cached = cachedCounts.get(key);
+        if (cached != null && !cached.isExpired()) {
+            return Uni.createFrom().item(cached.value);
+        }
+        return loader.get().invoke(value -> store(key, value));
+    }
+
+    private void store(String key, long value) {
+        if (cachedCounts.size() >= MAX_CACHED_FILTERS) {
+            cachedCounts.clear();
+        }
+        cachedCounts.put(key, new CachedCount(value, System.nanoTime() + cacheTtl.toNanos()));
+    }
+
+    private static String customerKey(String customerName) {
+        return "orders:customer:" + customerName;
+    }
+
+    private record CachedCount(long value, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.must5.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sparse fieldset of an order read, from the {@code fields} and {@code include} query
+ * parameters. Columns that are not requested are not selected and items that are not
+ * requested are not loaded; the id is always part of the result.
+ */
+public final class OrderFields {
+
+    static final List<String> PROPERTIES =
+            List.of("id", "customerName", "orderDate", "totalAmount", "createdAt", "updatedAt");
+
+    private static final String ITEMS = "items";
+
+    public static final OrderFields ALL = new OrderFields(Set.copyOf(PROPERTIES), true);
+
+    private final Set<String> properties;
+    private final boolean items;
+
+    private OrderFields(Set<String> properties, boolean items) {
+        this.properties = properties;
+        this.items = items;
+    }
+
+    /**
+     * Without {@code fields} every column and the items are returned, as before.
+     * {@code include=items} adds the items to a sparse fieldset.
+     */
+    public static OrderFields fromParams(String fields, String include) {
+        boolean items = false;
+        if (include != null && !include.isBlank()) {
+            for (String name : split(include)) {
+                if (!ITEMS.equals(name)) {
+                    throw new IllegalArgumentException("Unsupported include '" + name + "'. Supported values: items");
+                }
+                items = true;
+            }
+        }
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> properties = new LinkedHashSet<>();
+        properties.add("id");
+        for (String name : split(fields)) {
+            if (ITEMS.equals(name)) {
+                items = true;
+            } else if (PROPERTIES.contains(name)) {
+                properties.add(name);
+            } else {
+                throw new IllegalArgumentException("Unsupported field '" + name + "'. Supported fields: "
+                    + String.join(", ", PROPERTIES) + ", " + ITEMS);
+            }
+        }
+        return new OrderFields(properties, items);
+    }
+
+    // Cursor pages need the sort key of the last row to build the next cursor
+    public OrderFields with(String property) {
+        if (properties.contains(property)) {
+            return this;
+        }
+        Set<String> extended = new LinkedHashSet<>(properties);
+        extended.add(property);
+        return new OrderFields(extended, items);
+    }
+
+    public boolean includes(String property) {
+        return properties.contains(property);
+    }
+
+    public boolean includesItems() {
+        return items;
+    }
+
+    // Also true for a fields parameter that lists every column and the items
+    public boolean isAll() {
+        return equals(ALL);
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Stable text form, equal for equal fieldsets whatever order they were requested in.
+     */
+    public String key() {
+        return String.join(",", properties.stream().sorted().toList()) + (items ? "+items" : "");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderFields that)) return false;
+        return items == that.items && properties.equals(that.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(properties, items);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderFields{" +
+                "properties=" + properties +
+                ", items=" + items +
+                '}';
+    }
+}
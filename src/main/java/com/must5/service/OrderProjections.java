@@ -0,0 +1,175 @@
+package com.must5.service;
+
+import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderResponse;
+import com.must5.entity.Customer;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * HQL shared by the blocking and reactive read paths. Orders are selected straight
+ * into {@link OrderResponse} with a constructor projection, items as plain tuples,
+ * so no entity is hydrated or registered in the persistence context.
+ */
+final class OrderProjections {
+
+    private OrderProjections() {
+    }
+
+    // HQL types of the OrderResponse constructor arguments, used to select a typed null for a skipped column
+    private static final Map<String, String> PROPERTY_TYPES = Map.of(
+            "id", "Long",
+            "customerName", "String",
+            "orderDate", "LocalDate",
+            "totalAmount", "BigDecimal",
+            "createdAt", "LocalDateTime",
+            "updatedAt", "LocalDateTime");
+
+    static String selectOrders(String entityName) {
+        return selectOrders(entityName, OrderFields.ALL);
+    }
+
+    // Columns outside the fieldset become cast(null as ...), so they are never read from the table
+    static String selectOrders(String entityName, OrderFields fields) {
+        String arguments = OrderFields.PROPERTIES.stream()
+                .map(property -> fields.includes(property)
+                    ? property
+                    : "cast(null as " + PROPERTY_TYPES.get(property) + ")")
+                .collect(Collectors.joining(", "));
+        return "SELECT new com.must5.dto.OrderResponse(" + arguments + ") FROM " + entityName;
+    }
+
+    static String selectItems(String itemEntityName) {
+        return "SELECT i.order.id, i.id, i.productName, i.quantity, i.price FROM " + itemEntityName + " i "
+                + "WHERE i.order.id IN :orderIds ORDER BY i.id";
+    }
+
+    static String where(String customerName, OrderCursor cursor) {
+        List<String> conditions = new ArrayList<>();
+        if (customerName != null) {
+            conditions.add("customerId = " + Customer.ID_BY_NAME);
+        }
+        if (cursor != null && !cursor.isFirstPage()) {
+            conditions.add(cursor.seekCondition());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // Same semantics as #Order.findByDateRange, with both bounds optional
+    static List<String> exportConditions(String alias, String customerName, LocalDate from, LocalDate to) {
+        List<String> conditions = new ArrayList<>();
+        if (customerName != null) {
+            conditions.add(alias + "customerId = " + Customer.ID_BY_NAME);
+        }
+        if (from != null) {
+            conditions.add(alias + "orderDate >= :startDate");
+        }
+        if (to != null) {
+            conditions.add(alias + "orderDate <= :endDate");
+        }
+        return conditions;
+    }
+
+    static Map<String, Object> exportParameters(String customerName, LocalDate from, LocalDate to) {
+        Map<String, Object> parameters = new HashMap<>();
+        if (customerName != null) {
+            parameters.put("customerName", customerName);
+        }
+        if (from != null) {
+            parameters.put("startDate", from);
+        }
+        if (to != null) {
+            parameters.put("endDate", to);
+        }
+        return parameters;
+    }
+
+    // One row per item (or per order without items), ordered so the rows of an order are adjacent
+    static String selectExportRows(String entityName, List<String> conditions) {
+        return "SELECT o.id, o.customerName, o.orderDate, o.totalAmount, o.createdAt, o.updatedAt, "
+                + "i.id, i.productName, i.quantity, i.price FROM " + entityName + " o LEFT JOIN o.items i"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY o.id, i.id";
+    }
+
+    /**
+     * Folds the adjacent rows of {@link #selectExportRows} back into orders and hands every
+     * order to the consumer as soon as it is complete, so only one order is held at a time.
+     */
+    static void forEachOrder(Stream<Object[]> rows, Consumer<OrderResponse> consumer) {
+        OrderResponse current = null;
+        for (Iterator<Object[]> iterator = rows.iterator(); iterator.hasNext(); ) {
+            Object[] row = iterator.next();
+            Long orderId = (Long) row[0];
+            if (current == null || !current.getId().equals(orderId)) {
+                if (current != null) {
+                    consumer.accept(current);
+                }
+                current = new OrderResponse(orderId, (String) row[1], (LocalDate) row[2], (BigDecimal) row[3],
+                    (LocalDateTime) row[4], (LocalDateTime) row[5]);
+            }
+            if (row[6] != null) {
+                current.getItems().add(item((Long) row[6], (String) row[7], (Integer) row[8], (BigDecimal) row[9]));
+            }
+        }
+        if (current != null) {
+            consumer.accept(current);
+        }
+    }
+
+    static Map<String, Object> parameters(String customerName, OrderCursor cursor) {
+        Map<String, Object> parameters = cursor != null ? cursor.seekParameters() : new HashMap<>();
+        if (customerName != null) {
+            parameters.put("customerName", customerName);
+        }
+        return parameters;
+    }
+
+    // Same direction on both columns, so the (field, id) index can be scanned either way
+    static String orderBy(OrderSortField sortField, boolean descending) {
+        String direction = descending ? " DESC" : " ASC";
+        String orderBy = " ORDER BY " + sortField.getProperty() + direction;
+        return sortField == OrderSortField.ID ? orderBy : orderBy + ", id" + direction;
+    }
+
+    static String orderBy(OrderCursor cursor) {
+        return orderBy(cursor.getSortField(), cursor.isDescending());
+    }
+
+    static List<Long> ids(List<OrderResponse> orders) {
+        return orders.stream().map(OrderResponse::getId).collect(Collectors.toList());
+    }
+
+    // Rows are (order id, item id, product name, quantity, price) as selected by selectItems
+    static List<OrderResponse> attachItems(List<OrderResponse> orders, List<Object[]> itemRows) {
+        Map<Long, OrderResponse> byId = orders.stream()
+                .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+        for (Object[] row : itemRows) {
+            byId.get((Long) row[0]).getItems().add(item((Long) row[1], (String) row[2], (Integer) row[3], (BigDecimal) row[4]));
+        }
+        return orders;
+    }
+
+    // Items that were not requested are left out of the JSON instead of showing up empty
+    static List<OrderResponse> withoutItems(List<OrderResponse> orders) {
+        orders.forEach(order -> order.setItems(null));
+        return orders;
+    }
+
+    private static OrderItemResponse item(Long id, String productName, Integer quantity, BigDecimal price) {
+        return new OrderItemResponse(id, productName, quantity, price, price.multiply(BigDecimal.valueOf(quantity)));
+    }
+}
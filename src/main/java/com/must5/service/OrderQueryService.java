@@ -0,0 +1,124 @@
+package com.must5.service;
+
+import com.must5.dto.OrderResponse;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Read-only order queries for the blocking resource. Results are DTOs built by the
+ * database query itself, so nothing ends up in the persistence context and there is
+ * nothing to dirty check or flush.
+ */
+@ApplicationScoped
+public class OrderQueryService {
+
+    @Inject
+    EntityManager entityManager;
+
+    @ConfigProperty(name = "orders.export.fetch-size", defaultValue = "500")
+    int exportFetchSize;
+
+    public Optional<OrderResponse> findById(Long id) {
+        return findById(id, OrderFields.ALL);
+    }
+
+    public Optional<OrderResponse> findById(Long id, OrderFields fields) {
+        List<OrderResponse> orders = entityManager
+                .createQuery(OrderProjections.selectOrders("Order", fields) + " WHERE id = :id", OrderResponse.class)
+                .setParameter("id", id)
+                .getResultList();
+        return withItems(orders, fields).stream().findFirst();
+    }
+
+    public List<OrderResponse> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<OrderResponse> orders = entityManager
+                .createQuery(OrderProjections.selectOrders("Order") + " WHERE id IN :ids ORDER BY id", OrderResponse.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        return withItems(orders);
+    }
+
+    public List<OrderResponse> findPage(String customerName, OrderSortField sortField, boolean descending,
+                                        int firstRow, int maxRows) {
+        return findPage(customerName, sortField, descending, firstRow, maxRows, OrderFields.ALL);
+    }
+
+    public List<OrderResponse> findPage(String customerName, OrderSortField sortField, boolean descending,
+                                        int firstRow, int maxRows, OrderFields fields) {
+        String hql = OrderProjections.selectOrders("Order", fields) + OrderProjections.where(customerName, null)
+                + OrderProjections.orderBy(sortField, descending);
+        return withItems(query(hql, OrderProjections.parameters(customerName, null))
+                .setFirstResult(firstRow)
+                .setMaxResults(maxRows)
+                .getResultList(), fields);
+    }
+
+    public List<OrderResponse> findPage(String customerName, OrderCursor cursor, int maxRows) {
+        return findPage(customerName, cursor, maxRows, OrderFields.ALL);
+    }
+
+    // The fieldset must contain the cursor's sort field, see OrderFields#with
+    public List<OrderResponse> findPage(String customerName, OrderCursor cursor, int maxRows, OrderFields fields) {
+        String hql = OrderProjections.selectOrders("Order", fields) + OrderProjections.where(customerName, cursor)
+                + OrderProjections.orderBy(cursor);
+        return withItems(query(hql, OrderProjections.parameters(customerName, cursor))
+                .setMaxResults(maxRows)
+                .getResultList(), fields);
+    }
+
+    /**
+     * Streams every matching order with its items to the consumer. Rows are read through a
+     * server-side cursor in fetch-size chunks, so this must run inside a transaction
+     * (Postgres only uses a cursor when autocommit is off).
+     */
+    public void export(String customerName, LocalDate from, LocalDate to, Consumer<OrderResponse> consumer) {
+        List<String> conditions = OrderProjections.exportConditions("o.", customerName, from, to);
+        TypedQuery<Object[]> query = entityManager
+                .createQuery(OrderProjections.selectExportRows("Order", conditions), Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        OrderProjections.exportParameters(customerName, from, to).forEach(query::setParameter);
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            OrderProjections.forEachOrder(rows, consumer);
+        }
+    }
+
+    private TypedQuery<OrderResponse> query(String hql, Map<String, Object> parameters) {
+        TypedQuery<OrderResponse> query = entityManager.createQuery(hql, OrderResponse.class);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private List<OrderResponse> withItems(List<OrderResponse> orders, OrderFields fields) {
+        return fields.includesItems() ? withItems(orders) : OrderProjections.withoutItems(orders);
+    }
+
+    private List<OrderResponse> withItems(List<OrderResponse> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        List<Object[]> itemRows = entityManager
+                .createQuery(OrderProjections.selectItems("OrderItem"), Object[].class)
+                .setParameter("orderIds", OrderProjections.ids(orders))
+                .getResultList();
+        return OrderProjections.attachItems(orders, itemRows);
+    }
+}
@@ -0,0 +1,143 @@
+package com.must5.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.must5.dto.OrderResponse;
+import com.must5.event.OrderChangedEvent;
+import com.must5.event.RemoteOrderChanges;
+import com.must5.response.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.runtime.configuration.MemorySize;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Serialized {@code GET /orders/{id}} responses (full fieldset only), shared by both resources.
+ * Orders are never updated, only created and deleted, so an entry stays valid until its order is
+ * deleted; eviction is bounded by the total size of the cached bodies (orders.cache.max-size).
+ * <p>
+ * Deleted ids are remembered for a while so that a read which started before the delete (for
+ * example on a lagging replica) cannot put the order back after it was evicted.
+ * <p>
+ * Metrics: the standard Caffeine cache metrics under cache=orders.response (hits, misses,
+ * evictions, size) plus orders.response.cache.bytes.
+ */
+@ApplicationScoped
+public class OrderResponseCache {
+
+    private static final String CACHE_NAME = "orders.response";
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "orders.cache.max-size", defaultValue = "64M")
+    MemorySize maxSize;
+
+    @ConfigProperty(name = "orders.cache.deleted-retention", defaultValue = "10m")
+    Duration deletedRetention;
+
+    private Cache<Long, CachedOrder> cache;
+    private Cache<Long, Boolean> deleted;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.asLongValue())
+                .weigher((Long id, CachedOrder order) -> order.body().length)
+                .recordStats()
+                .build();
+        deleted = Caffeine.newBuilder()
+                .expireAfterWrite(deletedRetention)
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        registry.gauge("orders.response.cache.bytes", cache,
+                c -> c.policy().eviction().map(eviction -> (double) eviction.weightedSize().orElse(0)).orElse(0.0));
+    }
+
+    public Optional<CachedOrder> get(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Serializes the response and caches it, unless the order has been deleted in the meantime.
+     */
+    public CachedOrder put(Long id, ApiResponse<OrderResponse> response) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        CachedOrder cached = new CachedOrder(body, new EntityTag(digest(body)));
+        cache.put(id, cached);
+        // Checked after the put: a delete that raced with this read has already marked the id
+        if (deleted.getIfPresent(id) != null) {
+            cache.invalidate(id);
+        }
+        return cached;
+    }
+
+    void onOrderChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderChangedEvent event) {
+        if (event.type() == OrderChangedEvent.Type.DELETED) {
+            evict(event.orderId());
+        }
+    }
+
+    // New orders never make a cached response stale, so only an overflow that may hide deletes drops the cache
+    void onRemoteChanges(@Observes RemoteOrderChanges changes) {
+        if (changes.overflow() == RemoteOrderChanges.Overflow.ALL) {
+            cache.invalidateAll();
+        } else {
+            changes.deletedOrderIds().forEach(this::evict);
+        }
+    }
+
+    public void evict(Long id) {
+        deleted.put(id, Boolean.TRUE);
+        cache.invalidate(id);
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record CachedOrder(byte[] body, EntityTag etag) {
+
+        /**
+         * 304 when the request's If-None-Match matches, otherwise the cached body with its ETag.
+         */
+        public Response toResponse(Request request) {
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            if (notModified != null) {
+                return notModified.tag(etag).build();
+            }
+            return Response.ok(body, MediaType.APPLICATION_JSON).tag(etag).build();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.must5.service;
+
+import com.must5.dto.OrderResponse;
+import com.must5.dto.OrderSearchHit;
+import com.must5.pagination.SearchCursor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Case and accent insensitive substring search over customer and product names.
+ * The term is matched against the name dictionaries first (customers and product_names,
+ * trigram GIN indexes of V19, search_key(name) LIKE '%term%'): at most orders.search.max-names
+ * names of each kind, best trigram similarity first. Only the orders of those names are read,
+ * through the customer_id and (product_name, order_id) indexes, and paged by (score, id)
+ * with every name contributing at most one page, so a page costs the same however many
+ * orders match. An order matched by several names is returned once, with its best score.
+ */
+@ApplicationScoped
+public class OrderSearchService {
+
+    // Shorter terms have no complete trigram, so the index cannot narrow them down
+    public static final int MIN_TERM_LENGTH = 3;
+
+    private static final String SCORE =
+            "CAST(ROUND(CAST(similarity(search_key(%s), search_key(:term)) AS NUMERIC), 4) AS NUMERIC(5,4))";
+
+    private static final String MATCHES = "search_key(%s) LIKE '%%' || search_key(:pattern) || '%%'";
+
+    // A better ranked name (lower rank) also matches order o, so o belongs to that name's results
+    private static final String BETTER_NAME_MATCHES = "EXISTS (SELECT 1 FROM names h WHERE h.rank < n.rank AND ("
+            + "(h.kind = 'c' AND h.customer_id = o.customer_id) OR (h.kind = 'p' AND EXISTS ("
+            + "SELECT 1 FROM order_items x WHERE x.order_id = o.id AND x.product_name = h.name))))";
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    OrderQueryService orderQueries;
+
+    @ConfigProperty(name = "orders.search.max-names", defaultValue = "50")
+    int maxNames;
+
+    public List<OrderSearchHit> search(String term, SearchCursor cursor, int maxRows) {
+        if (term == null || term.trim().length() < MIN_TERM_LENGTH) {
+            throw new IllegalArgumentException("Search term must have at least " + MIN_TERM_LENGTH + " characters");
+        }
+        String normalized = term.trim();
+        String seek = cursor != null ? " AND (n.score, o.id) < (:lastScore, :lastId)" : "";
+
+        String sql = "WITH names AS ("
+                + "SELECT row_number() OVER (ORDER BY score DESC, kind, name) AS rank, kind, customer_id, name, score FROM ("
+                + "(SELECT 'c' AS kind, c.id AS customer_id, CAST(c.name AS TEXT) AS name, "
+                + String.format(SCORE, "c.name") + " AS score FROM customers c "
+                + "WHERE " + String.format(MATCHES, "c.name") + " ORDER BY score DESC, name LIMIT :maxNames) "
+                + "UNION ALL "
+                + "(SELECT 'p', CAST(NULL AS BIGINT), CAST(p.name AS TEXT), " + String.format(SCORE, "p.name")
+                + " FROM product_names p "
+                + "WHERE " + String.format(MATCHES, "p.name") + " ORDER BY 4 DESC, 3 LIMIT :maxNames)"
+                + ") matched) "
+                + "SELECT hit.id, n.score FROM names n CROSS JOIN LATERAL ("
+                + "(SELECT o.id FROM orders o "
+                + "WHERE n.kind = 'c' AND o.customer_id = n.customer_id" + seek
+                + " AND NOT " + BETTER_NAME_MATCHES
+                + " ORDER BY o.id DESC LIMIT :maxRows) "
+                + "UNION ALL "
+                + "(SELECT DISTINCT o.id FROM order_items i JOIN orders o ON o.id = i.order_id "
+                + "WHERE n.kind = 'p' AND i.product_name = n.name" + seek
+                + " AND NOT " + BETTER_NAME_MATCHES
+                + " ORDER BY o.id DESC LIMIT :maxRows)"
+                + ") hit "
+                + "ORDER BY n.score DESC, hit.id DESC";
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("term", normalized)
+                .setParameter("pattern", escapeLike(normalized))
+                .setParameter("maxNames", maxNames)
+                .setParameter("maxRows", maxRows)
+                .setMaxResults(maxRows);
+        if (cursor != null) {
+            query.setParameter("lastScore", cursor.getLastScore());
+            query.setParameter("lastId", cursor.getLastId());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).collect(Collectors.toList());
+        Map<Long, OrderResponse> orders = orderQueries.findByIds(ids).stream()
+                .collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+
+        // Keep the ranking, an order deleted since the first query is simply left out
+        return rows.stream()
+                .filter(row -> orders.containsKey(((Number) row[0]).longValue()))
+                .map(row -> new OrderSearchHit((BigDecimal) row[1], orders.get(((Number) row[0]).longValue())))
+                .collect(Collectors.toList());
+    }
+
+    // LIKE wildcards typed by the user are matched literally (backslash is the default escape)
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
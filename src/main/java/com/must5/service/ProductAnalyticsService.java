@@ -0,0 +1,74 @@
+package com.must5.service;
+
+import com.must5.dto.ProductSales;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Product sales read from the product_sales_daily rollup (V14), so no query has to
+ * multiply price * quantity over order_items.
+ */
+@ApplicationScoped
+public class ProductAnalyticsService {
+
+    public enum Ranking {
+        REVENUE("revenue"),
+        QUANTITY("total_quantity");
+
+        private final String column;
+
+        Ranking(String column) {
+            this.column = column;
+        }
+
+        public static Ranking fromParam(String value) {
+            return Arrays.stream(values())
+                    .filter(ranking -> ranking.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                        "Unsupported ranking '" + value + "'. Supported values: revenue, quantity"));
+        }
+    }
+
+    @Inject
+    EntityManager entityManager;
+
+    public List<ProductSales> top(LocalDate from, LocalDate to, Ranking ranking, int limit) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT product_name, SUM(total_quantity), SUM(revenue), SUM(order_count) FROM product_sales_daily "
+                    + "WHERE order_date BETWEEN :startDate AND :endDate GROUP BY product_name "
+                    + "ORDER BY SUM(" + ranking.column + ") DESC, product_name LIMIT :limit")
+                .setParameter("startDate", from)
+                .setParameter("endDate", to)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ProductSales((String) row[0], null, ((Number) row[1]).longValue(),
+                    (BigDecimal) row[2], ((Number) row[3]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    public List<ProductSales> daily(String productName, LocalDate from, LocalDate to) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT order_date, total_quantity, revenue, order_count FROM product_sales_daily "
+                    + "WHERE product_name = :productName AND order_date BETWEEN :startDate AND :endDate "
+                    + "ORDER BY order_date")
+                .setParameter("productName", productName)
+                .setParameter("startDate", from)
+                .setParameter("endDate", to)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ProductSales(productName, RevenueAnalyticsService.toLocalDate(row[0]),
+                    ((Number) row[1]).longValue(), (BigDecimal) row[2], ((Number) row[3]).longValue()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,146 @@
+package com.must5.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic treap of customers, ordered by total spending (highest first) and
+ * then by name. Every node knows the size of its subtree, so insert, remove and
+ * "how many customers spend more" are O(log n) expected. Not thread safe.
+ */
+final class RankTree {
+
+    record Entry(String customerName, BigDecimal totalSpending) {
+    }
+
+    private static final class Node {
+        final String customerName;
+        final BigDecimal totalSpending;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(String customerName, BigDecimal totalSpending, int priority) {
+            this.customerName = customerName;
+            this.totalSpending = totalSpending;
+            this.priority = priority;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(String customerName, BigDecimal totalSpending) {
+        Node[] parts = split(root, customerName, totalSpending);
+        root = merge(merge(parts[0], new Node(customerName, totalSpending, random.nextInt())), parts[1]);
+    }
+
+    void remove(String customerName, BigDecimal totalSpending) {
+        root = remove(root, customerName, totalSpending);
+    }
+
+    // Number of customers with a strictly higher total, i.e. rank - 1 with ties sharing a rank
+    long countHigher(BigDecimal totalSpending) {
+        long count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.totalSpending.compareTo(totalSpending) > 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while ((node != null || !path.isEmpty()) && entries.size() < limit) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            entries.add(new Entry(node.customerName, node.totalSpending));
+            node = node.right;
+        }
+        return entries;
+    }
+
+    // Negative when (nameA, totalA) comes before (nameB, totalB)
+    private static int compare(String nameA, BigDecimal totalA, String nameB, BigDecimal totalB) {
+        int byTotal = totalB.compareTo(totalA);
+        return byTotal != 0 ? byTotal : nameA.compareTo(nameB);
+    }
+
+    // Splits into the entries ordered before the key and the rest
+    private Node[] split(Node node, String customerName, BigDecimal totalSpending) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(node.customerName, node.totalSpending, customerName, totalSpending) < 0) {
+            Node[] parts = split(node.right, customerName, totalSpending);
+            node.right = parts[0];
+            update(node);
+            return new Node[] {node, parts[1]};
+        }
+        Node[] parts = split(node.left, customerName, totalSpending);
+        node.left = parts[1];
+        update(node);
+        return new Node[] {parts[0], node};
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node remove(Node node, String customerName, BigDecimal totalSpending) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(customerName, totalSpending, node.customerName, node.totalSpending);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, customerName, totalSpending);
+        } else {
+            node.right = remove(node.right, customerName, totalSpending);
+        }
+        update(node);
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+}
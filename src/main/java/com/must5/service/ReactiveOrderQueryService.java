@@ -0,0 +1,156 @@
+package com.must5.service;
+
+import com.must5.dto.OrderResponse;
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import com.must5.replica.ReadTarget;
+import com.must5.replica.ReplicaOrderQueries;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive counterpart of {@link OrderQueryService}. Both queries of a page run one
+ * after the other on the same session, a reactive session must not be used concurrently.
+ * Requests routed to the replica (ReadTarget) are read through {@link ReplicaOrderQueries}.
+ */
+@ApplicationScoped
+public class ReactiveOrderQueryService {
+
+    @Inject
+    Mutiny.SessionFactory sessionFactory;
+
+    @Inject
+    ReadTarget readTarget;
+
+    @Inject
+    ReplicaOrderQueries replicaOrders;
+
+    @ConfigProperty(name = "orders.export.fetch-size", defaultValue = "500")
+    int exportPageSize;
+
+    public Uni<OrderResponse> findById(Long id) {
+        return findById(id, OrderFields.ALL);
+    }
+
+    public Uni<OrderResponse> findById(Long id, OrderFields fields) {
+        if (readTarget.isReplica()) {
+            return replicaOrders.findById(id, fields);
+        }
+        return sessionFactory.withSession(session -> session
+                .createSelectionQuery(OrderProjections.selectOrders("ReactiveOrder", fields) + " WHERE id = :id", OrderResponse.class)
+                .setParameter("id", id)
+                .getResultList()
+                .chain(orders -> withItems(session, orders, fields))
+                .map(orders -> orders.isEmpty() ? null : orders.get(0)));
+    }
+
+    public Uni<List<OrderResponse>> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Uni.createFrom().item(new ArrayList<>());
+        }
+        return sessionFactory.withSession(session -> session
+                .createSelectionQuery(OrderProjections.selectOrders("ReactiveOrder") + " WHERE id IN :ids ORDER BY id", OrderResponse.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .chain(orders -> withItems(session, orders)));
+    }
+
+    public Uni<List<OrderResponse>> findPage(String customerName, OrderSortField sortField, boolean descending,
+                                             int firstRow, int maxRows) {
+        return findPage(customerName, sortField, descending, firstRow, maxRows, OrderFields.ALL);
+    }
+
+    public Uni<List<OrderResponse>> findPage(String customerName, OrderSortField sortField, boolean descending,
+                                             int firstRow, int maxRows, OrderFields fields) {
+        if (readTarget.isReplica()) {
+            return replicaOrders.findPage(customerName, sortField, descending, firstRow, maxRows, fields);
+        }
+        String hql = OrderProjections.selectOrders("ReactiveOrder", fields) + OrderProjections.where(customerName, null)
+                + OrderProjections.orderBy(sortField, descending);
+        return sessionFactory.withSession(session -> query(session, hql, OrderProjections.parameters(customerName, null))
+                .setFirstResult(firstRow)
+                .setMaxResults(maxRows)
+                .getResultList()
+                .chain(orders -> withItems(session, orders, fields)));
+    }
+
+    public Uni<List<OrderResponse>> findPage(String customerName, OrderCursor cursor, int maxRows) {
+        return findPage(customerName, cursor, maxRows, OrderFields.ALL);
+    }
+
+    // The fieldset must contain the cursor's sort field, see OrderFields#with
+    public Uni<List<OrderResponse>> findPage(String customerName, OrderCursor cursor, int maxRows, OrderFields fields) {
+        if (readTarget.isReplica()) {
+            return replicaOrders.findPage(customerName, cursor, maxRows, fields);
+        }
+        String hql = OrderProjections.selectOrders("ReactiveOrder", fields) + OrderProjections.where(customerName, cursor)
+                + OrderProjections.orderBy(cursor);
+        return sessionFactory.withSession(session -> query(session, hql, OrderProjections.parameters(customerName, cursor))
+                .setMaxResults(maxRows)
+                .getResultList()
+                .chain(orders -> withItems(session, orders, fields)));
+    }
+
+    /**
+     * Emits every matching order with its items. Pages are read by id (keyset) only when the
+     * subscriber asks for more, each in its own short session, so a slow consumer holds back
+     * the reads instead of buffering the table.
+     */
+    public Multi<OrderResponse> export(String customerName, LocalDate from, LocalDate to) {
+        if (readTarget.isReplica()) {
+            return replicaOrders.export(customerName, from, to);
+        }
+        List<String> conditions = OrderProjections.exportConditions("", customerName, from, to);
+        conditions.add("id > :afterId");
+        String hql = OrderProjections.selectOrders("ReactiveOrder") + " WHERE " + String.join(" AND ", conditions)
+                + OrderProjections.orderBy(OrderSortField.ID, false);
+        Map<String, Object> parameters = OrderProjections.exportParameters(customerName, from, to);
+
+        return Multi.createBy().repeating()
+                .uni(() -> new AtomicLong(0), afterId -> sessionFactory.withSession(session -> query(session, hql, parameters)
+                        .setParameter("afterId", afterId.get())
+                        .setMaxResults(exportPageSize)
+                        .getResultList()
+                        .chain(orders -> withItems(session, orders)))
+                        .invoke(orders -> {
+                            if (!orders.isEmpty()) {
+                                afterId.set(orders.get(orders.size() - 1).getId());
+                            }
+                        }))
+                .whilst(orders -> orders.size() == exportPageSize)
+                .onItem().disjoint();
+    }
+
+    private Mutiny.SelectionQuery<OrderResponse> query(Mutiny.Session session, String hql, Map<String, Object> parameters) {
+        Mutiny.SelectionQuery<OrderResponse> query = session.createSelectionQuery(hql, OrderResponse.class);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private Uni<List<OrderResponse>> withItems(Mutiny.Session session, List<OrderResponse> orders, OrderFields fields) {
+        return fields.includesItems()
+                ? withItems(session, orders)
+                : Uni.createFrom().item(OrderProjections.withoutItems(orders));
+    }
+
+    private Uni<List<OrderResponse>> withItems(Mutiny.Session session, List<OrderResponse> orders) {
+        if (orders.isEmpty()) {
+            return Uni.createFrom().item(orders);
+        }
+        return session.createSelectionQuery(OrderProjections.selectItems("ReactiveOrderItem"), Object[].class)
+                .setParameter("orderIds", OrderProjections.ids(orders))
+                .getResultList()
+                .map(itemRows -> OrderProjections.attachItems(orders, itemRows));
+    }
+}
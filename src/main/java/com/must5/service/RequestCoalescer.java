@@ -0,0 +1,103 @@
+package com.must5.service;
+
+import com.must5.replica.ReadTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for hot reads: concurrent calls with the same key share one database call.
+ * The first caller (the leader) runs the query, the others wait for its result, a future on
+ * the blocking side and a memoized {@link Uni} on the reactive side. Nothing is cached: the
+ * key is released as soon as the call completes, so the next caller queries again.
+ * <p>
+ * Keys are split by read source (replica or primary), and requests that must see their own
+ * write (X-Last-Write-LSN) always run their own query, since an in-flight call may have started
+ * before that write committed.
+ * <p>
+ * Metrics: orders.coalescing.calls{endpoint, outcome=leader|shared|bypassed}; the coalescing
+ * ratio is shared / (leader + shared).
+ */
+@ApplicationScoped
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> blockingCalls = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Uni<Object>> reactiveCalls = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    ReadTarget readTarget;
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String endpoint, String key, Supplier<T> call) {
+        if (readTarget.lastWriteLsn() != null) {
+            counter(endpoint, "bypassed").increment();
+            return call.get();
+        }
+
+        String flightKey = flightKey(endpoint, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = blockingCalls.putIfAbsent(flightKey, mine);
+        if (inFlight != null) {
+            counter(endpoint, "shared").increment();
+            try {
+                return (T) inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        counter(endpoint, "leader").increment();
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            blockingCalls.remove(flightKey, mine);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Uni<T> executeAsync(String endpoint, String key, Supplier<Uni<T>> call) {
+        if (readTarget.lastWriteLsn() != null) {
+            counter(endpoint, "bypassed").increment();
+            return call.get();
+        }
+
+        String flightKey = flightKey(endpoint, key);
+        Uni<Object>[] mine = new Uni[1];
+        mine[0] = Uni.createFrom().deferred(() -> (Uni<Object>) call.get())
+                .onTermination().invoke(() -> reactiveCalls.remove(flightKey, mine[0]))
+                .memoize().indefinitely();
+        Uni<Object> inFlight = reactiveCalls.putIfAbsent(flightKey, mine[0]);
+        if (inFlight != null) {
+            counter(endpoint, "shared").increment();
+            return (Uni<T>) inFlight;
+        }
+        counter(endpoint, "leader").increment();
+        return (Uni<T>) mine[0];
+    }
+
+    private String flightKey(String endpoint, String key) {
+        return (readTarget.isReplica() ? "replica:" : "primary:") + endpoint + ":" + key;
+    }
+
+    private Counter counter(String endpoint, String outcome) {
+        return registry.counter("orders.coalescing.calls", "endpoint", endpoint, "outcome", outcome);
+    }
+}
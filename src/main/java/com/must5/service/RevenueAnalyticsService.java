@@ -0,0 +1,114 @@
+package com.must5.service;
+
+import com.must5.dto.RevenueBucket;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Revenue per day, week or month read from the daily_revenue rollup (V13) instead of
+ * summing orders. Weeks and months are summed from the daily rows; daily distinct counts
+ * cannot be added up, so their distinct customers come from period_customers, which keeps
+ * one row per week and month. Those count the whole period, also when the range only
+ * covers part of the first or last week or month.
+ * <p>
+ * Order writes only append to daily_revenue_delta and period_customers_delta; {@link #fold()}
+ * moves the deltas into the rollups every orders.revenue.fold-interval, and reads add the
+ * ones not folded yet.
+ */
+@ApplicationScoped
+public class RevenueAnalyticsService {
+
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH;
+
+        public static Granularity fromParam(String value) {
+            return Arrays.stream(values())
+                    .filter(granularity -> granularity.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                        "Unsupported granularity '" + value + "'. Supported values: day, week, month"));
+        }
+
+        String truncUnit() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        // period_unit of customer_period_orders and period_customers
+        String periodUnit() {
+            return truncUnit().substring(0, 1);
+        }
+    }
+
+    // daily_revenue plus the deltas not folded yet, both read in the same snapshot
+    private static final String DAILY_ROWS =
+            "(SELECT order_date, SUM(total_orders) AS total_orders, SUM(revenue) AS revenue, "
+            + "SUM(distinct_customers) AS distinct_customers FROM ("
+            + "SELECT order_date, total_orders, revenue, distinct_customers FROM daily_revenue "
+            + "WHERE order_date BETWEEN :startDate AND :endDate "
+            + "UNION ALL SELECT order_date, total_orders, revenue, distinct_customers FROM daily_revenue_delta "
+            + "WHERE order_date BETWEEN :startDate AND :endDate"
+            + ") d GROUP BY order_date HAVING SUM(total_orders) > 0) daily";
+
+    // period_customers plus the deltas not folded yet, for the weeks or months the range touches
+    private static final String PERIOD_CUSTOMERS =
+            "(SELECT period_start AS period, SUM(distinct_customers) AS distinct_customers FROM ("
+            + "SELECT period_start, distinct_customers FROM period_customers "
+            + "WHERE period_unit = :periodUnit AND period_start BETWEEN revenue_period_start(:periodUnit, :startDate) AND :endDate "
+            + "UNION ALL SELECT period_start, distinct_customers FROM period_customers_delta "
+            + "WHERE period_unit = :periodUnit AND period_start BETWEEN revenue_period_start(:periodUnit, :startDate) AND :endDate"
+            + ") p GROUP BY period_start)";
+
+    @Inject
+    EntityManager entityManager;
+
+    @Scheduled(every = "{orders.revenue.fold-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @Transactional
+    void fold() {
+        entityManager.createNativeQuery("SELECT daily_revenue_fold()").getSingleResult();
+    }
+
+    public List<RevenueBucket> revenue(LocalDate from, LocalDate to, Granularity granularity) {
+        String sql;
+        if (granularity == Granularity.DAY) {
+            sql = "SELECT order_date, total_orders, revenue, distinct_customers FROM " + DAILY_ROWS
+                    + " ORDER BY order_date";
+        } else {
+            // Weeks start on Monday (ISO), as date_trunc does
+            String period = "CAST(date_trunc('" + granularity.truncUnit() + "', order_date) AS DATE)";
+            sql = "SELECT r.period, r.total_orders, r.revenue, COALESCE(c.distinct_customers, 0) FROM "
+                    + "(SELECT " + period + " AS period, SUM(total_orders) AS total_orders, SUM(revenue) AS revenue "
+                    + "FROM " + DAILY_ROWS + " GROUP BY 1) r "
+                    + "LEFT JOIN " + PERIOD_CUSTOMERS + " c ON c.period = r.period ORDER BY r.period";
+        }
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("startDate", from)
+                .setParameter("endDate", to);
+        if (granularity != Granularity.DAY) {
+            query.setParameter("periodUnit", granularity.periodUnit());
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new RevenueBucket(toLocalDate(row[0]), ((Number) row[1]).longValue(),
+                    (BigDecimal) row[2], ((Number) row[3]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
@@ -0,0 +1,83 @@
+package com.must5.service;
+
+import com.must5.entity.Order;
+import com.must5.entity.OrderItem;
+import com.must5.event.OrderChangedEvent;
+import com.must5.event.RemoteOrderChanges;
+import io.quarkus.scheduler.Scheduled;
+import io.vertx.mutiny.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps Hibernate's second-level cache correct for writes it does not see.
+ * Blocking persists and deletes already evict through Hibernate, but {@code ReactiveOrder}
+ * writes go through Hibernate Reactive, which has its own session factory and no second-level
+ * cache, and writes on other nodes only reach this one as {@link RemoteOrderChanges}.
+ * <p>
+ * Entity and collection keys do not include the tenant (hibernate.cache.keys_factory=simple),
+ * so one eviction covers reads served from both the primary and the replica.
+ * <p>
+ * A blocking read that loaded an order before the write committed can put it back after the
+ * eviction, so everything is evicted a second time after orders.l2-cache.reevict-delay. The
+ * regions only expire idle entries, so they are also dropped every orders.l2-cache.max-age to
+ * bound how long an entry that keeps being read can live.
+ */
+@ApplicationScoped
+public class SecondLevelCacheEviction {
+
+    private static final String ITEMS_ROLE = Order.class.getName() + ".items";
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "orders.l2-cache.reevict-delay", defaultValue = "2s")
+    Duration reevictDelay;
+
+    void onOrderChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderChangedEvent event) {
+        // New and deleted orders both change the results of the cached named queries
+        Set<Long> deleted = event.type() == OrderChangedEvent.Type.DELETED ? Set.of(event.orderId()) : Set.of();
+        evictNowAndLater(deleted, false);
+    }
+
+    void onRemoteChanges(@Observes RemoteOrderChanges changes) {
+        // An overflow of new orders only changes query results, cached orders stay valid
+        evictNowAndLater(changes.deletedOrderIds(), changes.overflow() == RemoteOrderChanges.Overflow.ALL);
+    }
+
+    @Scheduled(every = "{orders.l2-cache.max-age}", delayed = "{orders.l2-cache.max-age}")
+    void expire() {
+        evict(Set.of(), true);
+    }
+
+    private void evictNowAndLater(Set<Long> deletedOrderIds, boolean everything) {
+        evict(deletedOrderIds, everything);
+        vertx.setTimer(Math.max(1, reevictDelay.toMillis()), id -> evict(deletedOrderIds, everything));
+    }
+
+    private void evict(Set<Long> deletedOrderIds, boolean everything) {
+        Cache cache = sessionFactory.getCache();
+        if (everything) {
+            cache.evictEntityData(Order.class);
+            cache.evictEntityData(OrderItem.class);
+            cache.evictCollectionData(ITEMS_ROLE);
+        } else {
+            for (Long id : deletedOrderIds) {
+                cache.evictEntityData(Order.class, id);
+                cache.evictCollectionData(ITEMS_ROLE, id);
+            }
+        }
+        cache.evictQueryRegion(Order.QUERY_CACHE_REGION);
+    }
+}
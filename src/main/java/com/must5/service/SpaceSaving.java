@@ -0,0 +1,65 @@
+package com.must5.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters sketch (Metwally et al.): keeps at most {@code capacity}
+ * counters. An unseen item replaces the smallest counter and inherits its count as
+ * possible overestimation, so any item whose true count exceeds total / capacity is
+ * guaranteed to be tracked. Not thread safe.
+ */
+final class SpaceSaving {
+
+    record Estimate(String item, long count, long maxError) {
+    }
+
+    private static final class Counter {
+        long count;
+        long error;
+
+        Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    SpaceSaving(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void add(String item, long weight) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += weight;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new Counter(weight, 0));
+            return;
+        }
+        // Linear scan for the minimum: capacity is small (tens to hundreds of products)
+        Map.Entry<String, Counter> smallest = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (smallest == null || entry.getValue().count < smallest.getValue().count) {
+                smallest = entry;
+            }
+        }
+        long inherited = smallest.getValue().count;
+        counters.remove(smallest.getKey());
+        counters.put(item, new Counter(inherited + weight, inherited));
+    }
+
+    List<Estimate> top(int limit) {
+        List<Estimate> estimates = new ArrayList<>();
+        counters.forEach((item, counter) -> estimates.add(new Estimate(item, counter.count, counter.error)));
+        estimates.sort(Comparator.comparingLong(Estimate::count).reversed().thenComparing(Estimate::item));
+        return estimates.size() > limit ? estimates.subList(0, limit) : estimates;
+    }
+}
@@ -0,0 +1,74 @@
+package com.must5.service;
+
+import com.must5.dto.TrendingProduct;
+import com.must5.event.OrderChangedEvent;
+import com.must5.event.RemoteOrderChanges;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Approximate "trending products" by quantity sold, kept in memory with two Space-Saving
+ * sketches: the current window and the previous one. Queries add both up, so results do
+ * not drop to zero right after a rotation. Deleted orders are not subtracted (Space-Saving
+ * only supports increments); exact numbers come from product_sales_daily.
+ */
+@ApplicationScoped
+public class TrendingProducts {
+
+    @ConfigProperty(name = "orders.trending.capacity", defaultValue = "100")
+    int capacity;
+
+    private SpaceSaving current;
+    private SpaceSaving previous;
+
+    void onOrderChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderChangedEvent event) {
+        if (event.type() == OrderChangedEvent.Type.CREATED) {
+            record(event.productQuantities());
+        }
+    }
+
+    // Sales on other nodes count too, so every node reports the same trend
+    void onRemoteChanges(@Observes RemoteOrderChanges changes) {
+        record(changes.productQuantities());
+    }
+
+    public synchronized List<TrendingProduct> top(int limit) {
+        Map<String, TrendingProduct> merged = new HashMap<>();
+        for (SpaceSaving window : new SpaceSaving[] {previous, current}) {
+            if (window == null) {
+                continue;
+            }
+            for (SpaceSaving.Estimate estimate : window.top(capacity)) {
+                merged.merge(estimate.item(),
+                    new TrendingProduct(estimate.item(), estimate.count(), estimate.maxError()),
+                    (a, b) -> new TrendingProduct(a.getProductName(), a.getEstimatedQuantity() + b.getEstimatedQuantity(),
+                        a.getMaxOverestimate() + b.getMaxOverestimate()));
+            }
+        }
+        return merged.values().stream()
+                .sorted((a, b) -> Long.compare(b.getEstimatedQuantity(), a.getEstimatedQuantity()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(every = "{orders.trending.window}", delayed = "{orders.trending.window}")
+    synchronized void rotate() {
+        previous = current;
+        current = null;
+    }
+
+    private synchronized void record(Map<String, Integer> productQuantities) {
+        if (current == null) {
+            current = new SpaceSaving(capacity);
+        }
+        productQuantities.forEach(current::add);
+    }
+}
@@ -0,0 +1,26 @@
+-- Pooled-lo id allocation shared by the blocking and reactive entities
+-- Order/ReactiveOrder use orders_seq and OrderItem/ReactiveOrderItem use order_items_seq.
+-- Every nextval reserves the block [value, value + 100) for one node or stack,
+-- so INCREMENT BY must stay equal to IdAllocation.ALLOCATION_SIZE.
+
+CREATE SEQUENCE IF NOT EXISTS orders_seq;
+CREATE SEQUENCE IF NOT EXISTS order_items_seq;
+
+ALTER SEQUENCE orders_seq INCREMENT BY 100 OWNED BY orders.id;
+ALTER SEQUENCE order_items_seq INCREMENT BY 100 OWNED BY order_items.id;
+
+-- Start above every id handed out so far (BIGSERIAL defaults, V10 setval, old pooled blocks)
+SELECT setval('orders_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) FROM orders),
+    (SELECT last_value FROM orders_seq)) + 1, false);
+
+SELECT setval('order_items_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) FROM order_items),
+    (SELECT last_value FROM order_items_seq)) + 1, false);
+
+-- Plain SQL inserts draw from the same sequences, so they can no longer collide with the application
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT nextval('orders_seq');
+ALTER TABLE order_items ALTER COLUMN id SET DEFAULT nextval('order_items_seq');
+
+DROP SEQUENCE IF EXISTS orders_id_seq;
+DROP SEQUENCE IF EXISTS order_items_id_seq;
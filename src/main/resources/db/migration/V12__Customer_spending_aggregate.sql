@@ -0,0 +1,105 @@
+-- Per-customer spending aggregate, kept up to date by a trigger on orders
+-- Same columns as customer_spending_view, but read by key or by index instead of
+-- a GROUP BY over every order.
+
+CREATE TABLE customer_spending (
+    customer_name VARCHAR(100) PRIMARY KEY,
+    total_orders BIGINT NOT NULL DEFAULT 0,
+    total_spending DECIMAL(14,2) NOT NULL DEFAULT 0,
+    average_order_value DECIMAL(14,2) GENERATED ALWAYS AS (
+        CASE WHEN total_orders > 0 THEN ROUND(total_spending / total_orders, 2) ELSE 0 END
+    ) STORED,
+    first_order_date DATE,
+    last_order_date DATE
+);
+
+-- Serves ORDER BY total_spending DESC, customer_name LIMIT/OFFSET (and ranking)
+CREATE INDEX idx_customer_spending_total ON customer_spending(total_spending DESC, customer_name);
+
+CREATE OR REPLACE FUNCTION customer_spending_add(p_customer VARCHAR, p_amount DECIMAL, p_order_date DATE)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO customer_spending (customer_name, total_orders, total_spending, first_order_date, last_order_date)
+    VALUES (p_customer, 1, p_amount, p_order_date, p_order_date)
+    ON CONFLICT (customer_name) DO UPDATE SET
+        total_orders = customer_spending.total_orders + 1,
+        total_spending = customer_spending.total_spending + EXCLUDED.total_spending,
+        first_order_date = LEAST(customer_spending.first_order_date, EXCLUDED.first_order_date),
+        last_order_date = GREATEST(customer_spending.last_order_date, EXCLUDED.last_order_date);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION customer_spending_remove(p_customer VARCHAR, p_amount DECIMAL, p_order_date DATE)
+RETURNS VOID AS $$
+DECLARE
+    remaining customer_spending%ROWTYPE;
+BEGIN
+    UPDATE customer_spending
+    SET total_orders = total_orders - 1,
+        total_spending = total_spending - p_amount
+    WHERE customer_name = p_customer
+    RETURNING * INTO remaining;
+
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    IF remaining.total_orders <= 0 THEN
+        DELETE FROM customer_spending WHERE customer_name = p_customer;
+    ELSIF p_order_date = remaining.first_order_date OR p_order_date = remaining.last_order_date THEN
+        -- The removed order may have been the first or last one; min/max cannot be decremented
+        UPDATE customer_spending
+        SET (first_order_date, last_order_date) = (
+            SELECT MIN(order_date), MAX(order_date) FROM orders WHERE customer_name = p_customer)
+        WHERE customer_name = p_customer;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION orders_customer_spending_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM customer_spending_remove(OLD.customer_name, OLD.total_amount, OLD.order_date);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM customer_spending_add(NEW.customer_name, NEW.total_amount, NEW.order_date);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_customer_spending
+    AFTER INSERT OR DELETE OR UPDATE OF customer_name, total_amount, order_date ON orders
+    FOR EACH ROW EXECUTE FUNCTION orders_customer_spending_trigger();
+
+-- Backfill from the existing orders
+INSERT INTO customer_spending (customer_name, total_orders, total_spending, first_order_date, last_order_date)
+SELECT customer_name, COUNT(*), COALESCE(SUM(total_amount), 0), MIN(order_date), MAX(order_date)
+FROM orders
+GROUP BY customer_name;
+
+-- The view and the ranking function now read the aggregate
+DROP VIEW IF EXISTS customer_spending_view;
+CREATE VIEW customer_spending_view AS
+SELECT customer_name, total_orders, total_spending, average_order_value, first_order_date, last_order_date
+FROM customer_spending
+ORDER BY total_spending DESC, customer_name;
+
+COMMENT ON VIEW customer_spending_view IS 'View showing spending summary per customer';
+COMMENT ON TABLE customer_spending IS 'Spending per customer, maintained by trg_orders_customer_spending';
+
+CREATE OR REPLACE FUNCTION get_customer_ranking(customer_name_param VARCHAR)
+RETURNS INTEGER AS $$
+DECLARE
+    customer_rank INTEGER;
+BEGIN
+    SELECT COUNT(*) + 1
+    INTO customer_rank
+    FROM customer_spending
+    WHERE total_spending > COALESCE(
+        (SELECT total_spending FROM customer_spending WHERE customer_name = customer_name_param), 0);
+
+    RETURN customer_rank;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,48 @@
+-- order_items.sub_total (price * quantity), read by the product sales rollup (V14)
+-- A GENERATED ... STORED column would rewrite order_items under an ACCESS EXCLUSIVE lock. Instead the column is
+-- added nullable without default (no rewrite), new and changed rows are filled by a trigger, the existing rows are
+-- backfilled in batches, and the constraint is validated without blocking writes.
+--
+-- Runs outside a transaction (executeInTransaction=false in V13_1__Order_items_sub_total.sql.conf), so the
+-- backfill commits per batch like V16.
+
+ALTER TABLE order_items ADD COLUMN sub_total DECIMAL(14,2);
+
+CREATE OR REPLACE FUNCTION order_items_sub_total_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.sub_total := NEW.price * NEW.quantity;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_order_items_sub_total
+    BEFORE INSERT OR UPDATE OF price, quantity ON order_items
+    FOR EACH ROW
+    EXECUTE FUNCTION order_items_sub_total_trigger();
+
+-- Backfill in id ranges of 10000, one transaction each. Items inserted after max_id are already filled by
+-- trg_order_items_sub_total, which exists before max_id is read.
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM order_items;
+    WHILE last_id < max_id LOOP
+        UPDATE order_items
+        SET sub_total = price * quantity
+        WHERE id > last_id AND id <= last_id + 10000
+          AND sub_total IS NULL;
+        last_id := last_id + 10000;
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+-- NOT VALID takes the lock only briefly; VALIDATE scans the table under SHARE UPDATE EXCLUSIVE, writes continue
+ALTER TABLE order_items ADD CONSTRAINT chk_order_items_sub_total
+    CHECK (sub_total IS NOT NULL AND sub_total = price * quantity) NOT VALID;
+ALTER TABLE order_items VALIDATE CONSTRAINT chk_order_items_sub_total;
+
+COMMENT ON COLUMN order_items.sub_total IS 'price * quantity, set by trg_order_items_sub_total';
@@ -0,0 +1,218 @@
+-- Daily revenue rollup, kept up to date by a trigger on orders
+-- daily_revenue holds one row per day; customer_period_orders counts orders per day, ISO week and
+-- month and customer, so distinct customers can be maintained on delete. Daily distinct counts
+-- cannot be added up to weeks or months, so period_customers keeps those per week and month.
+-- The trigger does not update the daily or period rows itself, every order of a day would wait for
+-- their lock: it appends to daily_revenue_delta and period_customers_delta, and daily_revenue_fold()
+-- adds the deltas up later.
+
+CREATE TABLE daily_revenue (
+    order_date DATE PRIMARY KEY,
+    total_orders BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    distinct_customers BIGINT NOT NULL DEFAULT 0
+);
+
+-- period_unit: 'd' day, 'w' ISO week (starting Monday), 'm' month; period_start as date_trunc returns it
+CREATE TABLE customer_period_orders (
+    period_unit CHAR(1) NOT NULL CHECK (period_unit IN ('d', 'w', 'm')),
+    period_start DATE NOT NULL,
+    customer_name VARCHAR(100) NOT NULL,
+    total_orders BIGINT NOT NULL,
+    PRIMARY KEY (period_unit, period_start, customer_name)
+);
+
+CREATE TABLE period_customers (
+    period_unit CHAR(1) NOT NULL CHECK (period_unit IN ('w', 'm')),
+    period_start DATE NOT NULL,
+    distinct_customers BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (period_unit, period_start)
+);
+
+CREATE TABLE daily_revenue_delta (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    order_date DATE NOT NULL,
+    total_orders INTEGER NOT NULL,
+    revenue DECIMAL(14,2) NOT NULL,
+    distinct_customers INTEGER NOT NULL
+);
+
+CREATE TABLE period_customers_delta (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    period_unit CHAR(1) NOT NULL,
+    period_start DATE NOT NULL,
+    distinct_customers INTEGER NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION revenue_period_start(p_unit CHAR, p_date DATE)
+RETURNS DATE AS $$
+    SELECT CAST(date_trunc(CASE p_unit WHEN 'd' THEN 'day' WHEN 'w' THEN 'week' ELSE 'month' END, CAST(p_date AS TIMESTAMP)) AS DATE)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Counts one more order of the customer in the period, returns 1 when it is the customer's first
+CREATE OR REPLACE FUNCTION customer_period_add(p_unit CHAR, p_order_date DATE, p_customer VARCHAR)
+RETURNS INTEGER AS $$
+DECLARE
+    customer_orders BIGINT;
+BEGIN
+    INSERT INTO customer_period_orders (period_unit, period_start, customer_name, total_orders)
+    VALUES (p_unit, revenue_period_start(p_unit, p_order_date), p_customer, 1)
+    ON CONFLICT (period_unit, period_start, customer_name)
+        DO UPDATE SET total_orders = customer_period_orders.total_orders + 1
+    RETURNING total_orders INTO customer_orders;
+
+    RETURN CASE WHEN customer_orders = 1 THEN 1 ELSE 0 END;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Counts one order of the customer less in the period, returns -1 when it was the customer's last
+CREATE OR REPLACE FUNCTION customer_period_remove(p_unit CHAR, p_order_date DATE, p_customer VARCHAR)
+RETURNS INTEGER AS $$
+DECLARE
+    customer_orders BIGINT;
+BEGIN
+    UPDATE customer_period_orders SET total_orders = total_orders - 1
+    WHERE period_unit = p_unit AND period_start = revenue_period_start(p_unit, p_order_date) AND customer_name = p_customer
+    RETURNING total_orders INTO customer_orders;
+
+    IF customer_orders = 0 THEN
+        DELETE FROM customer_period_orders
+        WHERE period_unit = p_unit AND period_start = revenue_period_start(p_unit, p_order_date) AND customer_name = p_customer;
+        RETURN -1;
+    END IF;
+    RETURN 0;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Week and month distinct customer changes; most orders are not a customer's first of the period
+CREATE OR REPLACE FUNCTION period_customers_change(p_order_date DATE, p_week INTEGER, p_month INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    IF p_week <> 0 THEN
+        INSERT INTO period_customers_delta (period_unit, period_start, distinct_customers)
+        VALUES ('w', revenue_period_start('w', p_order_date), p_week);
+    END IF;
+    IF p_month <> 0 THEN
+        INSERT INTO period_customers_delta (period_unit, period_start, distinct_customers)
+        VALUES ('m', revenue_period_start('m', p_order_date), p_month);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION daily_revenue_add(p_order_date DATE, p_customer VARCHAR, p_amount DECIMAL)
+RETURNS VOID AS $$
+BEGIN
+    -- Day, week, month: the same order as the remove side and the backfill
+    INSERT INTO daily_revenue_delta (order_date, total_orders, revenue, distinct_customers)
+    VALUES (p_order_date, 1, p_amount, customer_period_add('d', p_order_date, p_customer));
+
+    PERFORM period_customers_change(p_order_date,
+        customer_period_add('w', p_order_date, p_customer),
+        customer_period_add('m', p_order_date, p_customer));
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION daily_revenue_remove(p_order_date DATE, p_customer VARCHAR, p_amount DECIMAL)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO daily_revenue_delta (order_date, total_orders, revenue, distinct_customers)
+    VALUES (p_order_date, -1, -p_amount, customer_period_remove('d', p_order_date, p_customer));
+
+    PERFORM period_customers_change(p_order_date,
+        customer_period_remove('w', p_order_date, p_customer),
+        customer_period_remove('m', p_order_date, p_customer));
+END;
+$$ LANGUAGE plpgsql;
+
+-- Moves the committed deltas into daily_revenue and period_customers, one upsert per period in order.
+-- Deltas committed while it runs are not visible to its DELETE and stay for the next fold.
+CREATE OR REPLACE FUNCTION daily_revenue_fold()
+RETURNS INTEGER AS $$
+DECLARE
+    folded INTEGER;
+    emptied DATE[];
+BEGIN
+    -- Another node is already folding
+    IF NOT pg_try_advisory_xact_lock(hashtext('daily_revenue_fold')) THEN
+        RETURN 0;
+    END IF;
+
+    WITH moved AS (
+        DELETE FROM daily_revenue_delta
+        RETURNING order_date, total_orders, revenue, distinct_customers
+    ), upserted AS (
+        INSERT INTO daily_revenue (order_date, total_orders, revenue, distinct_customers)
+        SELECT order_date, SUM(total_orders), SUM(revenue), SUM(distinct_customers)
+        FROM moved
+        GROUP BY order_date
+        ORDER BY order_date
+        ON CONFLICT (order_date) DO UPDATE SET
+            total_orders = daily_revenue.total_orders + EXCLUDED.total_orders,
+            revenue = daily_revenue.revenue + EXCLUDED.revenue,
+            distinct_customers = daily_revenue.distinct_customers + EXCLUDED.distinct_customers
+        RETURNING order_date, total_orders
+    )
+    SELECT COUNT(*), array_agg(order_date) FILTER (WHERE total_orders <= 0)
+    INTO folded, emptied
+    FROM upserted;
+
+    IF emptied IS NOT NULL THEN
+        DELETE FROM daily_revenue WHERE order_date = ANY (emptied);
+    END IF;
+
+    WITH moved AS (
+        DELETE FROM period_customers_delta
+        RETURNING period_unit, period_start, distinct_customers
+    )
+    INSERT INTO period_customers (period_unit, period_start, distinct_customers)
+    SELECT period_unit, period_start, SUM(distinct_customers)
+    FROM moved
+    GROUP BY period_unit, period_start
+    ORDER BY period_unit, period_start
+    ON CONFLICT (period_unit, period_start) DO UPDATE SET
+        distinct_customers = period_customers.distinct_customers + EXCLUDED.distinct_customers;
+
+    DELETE FROM period_customers WHERE distinct_customers <= 0;
+    RETURN folded;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION orders_daily_revenue_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM daily_revenue_remove(OLD.order_date, OLD.customer_name, OLD.total_amount);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM daily_revenue_add(NEW.order_date, NEW.customer_name, NEW.total_amount);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_daily_revenue
+    AFTER INSERT OR DELETE OR UPDATE OF customer_name, total_amount, order_date ON orders
+    FOR EACH ROW EXECUTE FUNCTION orders_daily_revenue_trigger();
+
+-- Backfill from the existing orders
+INSERT INTO customer_period_orders (period_unit, period_start, customer_name, total_orders)
+SELECT u.period_unit, revenue_period_start(u.period_unit, o.order_date), o.customer_name, COUNT(*)
+FROM orders o CROSS JOIN (VALUES ('d'), ('w'), ('m')) AS u(period_unit)
+GROUP BY 1, 2, 3;
+
+INSERT INTO period_customers (period_unit, period_start, distinct_customers)
+SELECT period_unit, period_start, COUNT(*)
+FROM customer_period_orders
+WHERE period_unit IN ('w', 'm')
+GROUP BY period_unit, period_start;
+
+INSERT INTO daily_revenue (order_date, total_orders, revenue, distinct_customers)
+SELECT order_date, COUNT(*), COALESCE(SUM(total_amount), 0), COUNT(DISTINCT customer_name)
+FROM orders
+GROUP BY order_date;
+
+COMMENT ON TABLE daily_revenue IS 'Orders, revenue and distinct customers per order date, folded from daily_revenue_delta by daily_revenue_fold()';
+COMMENT ON TABLE daily_revenue_delta IS 'Changes to daily_revenue appended by trg_orders_daily_revenue and not folded yet';
+COMMENT ON TABLE customer_period_orders IS 'Orders per customer and day, ISO week or month, used for distinct customer counts';
+COMMENT ON TABLE period_customers IS 'Distinct customers per ISO week and month, folded from period_customers_delta by daily_revenue_fold()';
+COMMENT ON TABLE period_customers_delta IS 'Changes to period_customers appended by trg_orders_daily_revenue and not folded yet';
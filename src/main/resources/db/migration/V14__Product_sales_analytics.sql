@@ -0,0 +1,151 @@
+-- Product sales analytics
+-- Aggregates read order_items.sub_total (V13_1) instead of multiplying price * quantity per row,
+-- and product_sales_daily is maintained by triggers on order_items and orders.
+
+CREATE TABLE product_sales_daily (
+    order_date DATE NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    total_quantity BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    -- Orders containing the product (an order listing it twice counts once)
+    order_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (product_name, order_date)
+);
+
+CREATE INDEX idx_product_sales_daily_date ON product_sales_daily(order_date);
+
+-- Adds (or with negative values removes) sales of a product on a day
+CREATE OR REPLACE FUNCTION product_sales_add(p_order_date DATE, p_product VARCHAR, p_quantity BIGINT,
+                                             p_revenue DECIMAL, p_orders INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO product_sales_daily (order_date, product_name, total_quantity, revenue, order_count)
+    VALUES (p_order_date, p_product, p_quantity, p_revenue, p_orders)
+    ON CONFLICT (product_name, order_date) DO UPDATE SET
+        total_quantity = product_sales_daily.total_quantity + EXCLUDED.total_quantity,
+        revenue = product_sales_daily.revenue + EXCLUDED.revenue,
+        order_count = product_sales_daily.order_count + EXCLUDED.order_count;
+
+    IF p_orders < 0 THEN
+        DELETE FROM product_sales_daily
+        WHERE product_name = p_product AND order_date = p_order_date AND order_count <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A changed item line: added lines count +1, removed lines -1 with negated quantity and revenue
+CREATE TYPE order_item_change AS (
+    order_id BIGINT,
+    product_name VARCHAR(200),
+    quantity BIGINT,
+    revenue DECIMAL(14,2),
+    lines INTEGER
+);
+
+-- Statement level: one multi-row INSERT (reWriteBatchedInserts) or DELETE can hold several lines of
+-- the same product and order, so the order count is derived per (order, product) from the number of
+-- lines before and after the statement instead of per row.
+CREATE OR REPLACE FUNCTION order_items_product_sales_trigger()
+RETURNS TRIGGER AS $$
+DECLARE
+    changes order_item_change[] := '{}';
+    product RECORD;
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        changes := changes || ARRAY(
+            SELECT (order_id, product_name, -quantity, -sub_total, -1)::order_item_change FROM old_items);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        changes := changes || ARRAY(
+            SELECT (order_id, product_name, quantity, sub_total, 1)::order_item_change FROM new_items);
+    END IF;
+
+    -- Sorted like the primary key so concurrent statements lock product_sales_daily rows in the same order
+    FOR product IN
+        WITH per_order AS (
+            SELECT c.order_id, c.product_name, SUM(c.quantity) AS quantity, SUM(c.revenue) AS revenue,
+                   SUM(c.lines) AS lines
+            FROM unnest(changes) c
+            GROUP BY c.order_id, c.product_name
+        )
+        SELECT o.order_date, p.product_name, SUM(p.quantity) AS quantity, SUM(p.revenue) AS revenue,
+               SUM(CASE WHEN remaining.lines > 0 THEN 1 ELSE 0 END
+                   - CASE WHEN remaining.lines - p.lines > 0 THEN 1 ELSE 0 END) AS orders
+        FROM per_order p
+        JOIN orders o ON o.id = p.order_id
+        CROSS JOIN LATERAL (
+            SELECT COUNT(*) AS lines FROM order_items i
+            WHERE i.order_id = p.order_id AND i.product_name = p.product_name
+        ) remaining
+        GROUP BY o.order_date, p.product_name
+        ORDER BY p.product_name, o.order_date
+    LOOP
+        IF product.quantity <> 0 OR product.revenue <> 0 OR product.orders <> 0 THEN
+            PERFORM product_sales_add(product.order_date, product.product_name, product.quantity::BIGINT,
+                                      product.revenue, product.orders::INTEGER);
+        END IF;
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables need one trigger per event
+CREATE TRIGGER trg_order_items_product_sales_insert
+    AFTER INSERT ON order_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION order_items_product_sales_trigger();
+
+CREATE TRIGGER trg_order_items_product_sales_update
+    AFTER UPDATE ON order_items
+    REFERENCING OLD TABLE AS old_items NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION order_items_product_sales_trigger();
+
+CREATE TRIGGER trg_order_items_product_sales_delete
+    AFTER DELETE ON order_items
+    REFERENCING OLD TABLE AS old_items
+    FOR EACH STATEMENT EXECUTE FUNCTION order_items_product_sales_trigger();
+
+-- ON DELETE CASCADE removes items after their order is gone, when the item trigger can no
+-- longer read its order date. Deleting the items first keeps product_sales_daily correct.
+CREATE OR REPLACE FUNCTION orders_delete_items_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM order_items WHERE order_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_delete_items
+    BEFORE DELETE ON orders
+    FOR EACH ROW EXECUTE FUNCTION orders_delete_items_trigger();
+
+-- Moving an order to another date moves its product sales with it
+CREATE OR REPLACE FUNCTION orders_product_sales_date_trigger()
+RETURNS TRIGGER AS $$
+DECLARE
+    product RECORD;
+BEGIN
+    FOR product IN
+        SELECT product_name, SUM(quantity) AS quantity, SUM(sub_total) AS revenue
+        FROM order_items WHERE order_id = NEW.id GROUP BY product_name
+    LOOP
+        PERFORM product_sales_add(OLD.order_date, product.product_name, -product.quantity, -product.revenue, -1);
+        PERFORM product_sales_add(NEW.order_date, product.product_name, product.quantity, product.revenue, 1);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_product_sales_date
+    AFTER UPDATE OF order_date ON orders
+    FOR EACH ROW WHEN (OLD.order_date IS DISTINCT FROM NEW.order_date)
+    EXECUTE FUNCTION orders_product_sales_date_trigger();
+
+-- Backfill from the existing items
+INSERT INTO product_sales_daily (order_date, product_name, total_quantity, revenue, order_count)
+SELECT o.order_date, i.product_name, SUM(i.quantity), SUM(i.sub_total), COUNT(DISTINCT i.order_id)
+FROM order_items i
+JOIN orders o ON o.id = i.order_id
+GROUP BY o.order_date, i.product_name;
+
+COMMENT ON TABLE product_sales_daily IS 'Quantity, revenue and orders per product and order date, maintained by the trg_order_items_product_sales_* triggers';
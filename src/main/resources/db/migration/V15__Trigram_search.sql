@@ -0,0 +1,21 @@
+-- Fuzzy customer and product search
+-- Names are compared through search_key(): lower case without accents, so "muller" finds "Müller".
+-- The GIN trigram indexes on that expression are built concurrently on the name dictionaries (V19),
+-- not on orders and order_items.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE (it depends on search_path), which rules it out for index expressions.
+-- Pinning the dictionary and schema makes the wrapper safe to declare IMMUTABLE.
+CREATE OR REPLACE FUNCTION f_unaccent(TEXT)
+RETURNS TEXT AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+CREATE OR REPLACE FUNCTION search_key(TEXT)
+RETURNS TEXT AS $$
+    SELECT lower(public.f_unaccent($1))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+COMMENT ON FUNCTION search_key(TEXT) IS 'Normalized form used by the trigram search indexes, queries must use the same expression';
@@ -0,0 +1,123 @@
+-- Customers dictionary
+-- orders.customer_id replaces customer_name as the key for filters and joins: an 8 byte integer
+-- instead of a repeated VARCHAR(100). customer_name stays on orders, the API keeps working with names.
+--
+-- This migration runs outside a transaction (quarkus.flyway.mixed, triggered by CREATE INDEX CONCURRENTLY),
+-- so the backfill commits per batch and no statement holds a long lock on orders.
+
+CREATE TABLE customers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Nullable without default: no table rewrite
+ALTER TABLE orders ADD COLUMN customer_id BIGINT;
+
+-- Id of a customer, created on first use
+CREATE OR REPLACE FUNCTION customer_id_for(p_name VARCHAR)
+RETURNS BIGINT AS $$
+DECLARE
+    v_id BIGINT;
+BEGIN
+    SELECT id INTO v_id FROM customers WHERE name = p_name;
+    IF v_id IS NULL THEN
+        INSERT INTO customers (name) VALUES (p_name)
+        ON CONFLICT (name) DO NOTHING
+        RETURNING id INTO v_id;
+        -- Lost the race against a concurrent insert
+        IF v_id IS NULL THEN
+            SELECT id INTO v_id FROM customers WHERE name = p_name;
+        END IF;
+    END IF;
+    RETURN v_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Writers only set customer_name (both APIs do); customer_id is resolved here unless a writer set it.
+-- A renamed order always gets the id of its new name.
+CREATE OR REPLACE FUNCTION orders_customer_id_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.customer_id IS NULL
+       OR (TG_OP = 'UPDATE' AND NEW.customer_name IS DISTINCT FROM OLD.customer_name) THEN
+        NEW.customer_id := customer_id_for(NEW.customer_name);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_customer_id
+    BEFORE INSERT OR UPDATE OF customer_name, customer_id ON orders
+    FOR EACH ROW
+    EXECUTE FUNCTION orders_customer_id_trigger();
+
+INSERT INTO customers (name)
+SELECT DISTINCT customer_name FROM orders
+ON CONFLICT (name) DO NOTHING;
+
+-- Backfill in id ranges of 10000, one transaction each. Each range is a primary key range scan; orders
+-- inserted after max_id are already filled by trg_orders_customer_id.
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM orders;
+    WHILE last_id < max_id LOOP
+        UPDATE orders o
+        SET customer_id = c.id
+        FROM customers c
+        WHERE c.name = o.customer_name
+          AND o.id > last_id AND o.id <= last_id + 10000
+          AND o.customer_id IS NULL;
+        last_id := last_id + 10000;
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+CREATE INDEX CONCURRENTLY idx_orders_customer_id ON orders(customer_id, order_date);
+
+-- Constraints are added NOT VALID and validated afterwards, which does not block writes.
+-- The validated CHECK lets SET NOT NULL skip its full table scan.
+ALTER TABLE orders ADD CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES customers(id) NOT VALID;
+ALTER TABLE orders VALIDATE CONSTRAINT fk_orders_customer;
+ALTER TABLE orders ADD CONSTRAINT chk_orders_customer_id_not_null CHECK (customer_id IS NOT NULL) NOT VALID;
+ALTER TABLE orders VALIDATE CONSTRAINT chk_orders_customer_id_not_null;
+ALTER TABLE orders ALTER COLUMN customer_id SET NOT NULL;
+ALTER TABLE orders DROP CONSTRAINT chk_orders_customer_id_not_null;
+
+-- First/last order date of a customer is now recomputed through idx_orders_customer_id
+CREATE OR REPLACE FUNCTION customer_spending_remove(p_customer VARCHAR, p_amount DECIMAL, p_order_date DATE)
+RETURNS VOID AS $$
+DECLARE
+    remaining customer_spending%ROWTYPE;
+BEGIN
+    UPDATE customer_spending
+    SET total_orders = total_orders - 1,
+        total_spending = total_spending - p_amount
+    WHERE customer_name = p_customer
+    RETURNING * INTO remaining;
+
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    IF remaining.total_orders <= 0 THEN
+        DELETE FROM customer_spending WHERE customer_name = p_customer;
+    ELSIF p_order_date = remaining.first_order_date OR p_order_date = remaining.last_order_date THEN
+        -- The removed order may have been the first or last one; min/max cannot be decremented
+        UPDATE customer_spending
+        SET (first_order_date, last_order_date) = (
+            SELECT MIN(order_date), MAX(order_date) FROM orders
+            WHERE customer_id = (SELECT id FROM customers WHERE name = p_customer))
+        WHERE customer_name = p_customer;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replaced by idx_orders_customer_id (name lookups go through the customers unique index)
+DROP INDEX CONCURRENTLY IF EXISTS idx_orders_customer_name;
+
+COMMENT ON TABLE customers IS 'Customer names with surrogate ids, referenced by orders.customer_id and filled by trg_orders_customer_id';
@@ -0,0 +1,37 @@
+-- Indexes shaped to the queries that actually run
+-- Each index starts with the filter column, continues with the ORDER BY columns (id is the tiebreaker of every
+-- listing and cursor) and INCLUDEs the remaining fixed-size OrderResponse columns, so a page is read in order from
+-- the index without a Sort step. customer_name is left out of every index, filters key on customer_id (V16);
+-- it is read from the table for the rows of the page only.
+-- CONCURRENTLY keeps orders writable while the indexes build; the migration runs outside a transaction
+-- (quarkus.flyway.mixed=true).
+
+-- #Order.findByCustomerName, /orders/customers/{customerName} and customer filtered cursors on orderDate
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_date_id
+    ON orders(customer_id, order_date DESC, id DESC)
+    INCLUDE (total_amount, created_at, updated_at);
+
+-- Customer filtered listings sorted by id and #Order.countByCustomerName
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_id_id ON orders(customer_id, id);
+
+-- #Order.findByDateRange, the export date range and listings sorted by orderDate
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_date_id
+    ON orders(order_date DESC, id DESC)
+    INCLUDE (total_amount, created_at, updated_at);
+
+-- Listings and cursors sorted by createdAt
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_at_id ON orders(created_at, id);
+
+-- Items of a page (WHERE order_id IN (...)) without visiting the table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_order_id_id
+    ON order_items(order_id, id)
+    INCLUDE (product_name, quantity, price);
+
+-- Prefixes of the indexes above
+DROP INDEX CONCURRENTLY IF EXISTS idx_orders_customer_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_orders_order_date;
+DROP INDEX CONCURRENTLY IF EXISTS idx_orders_created_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_items_order_id;
+
+ANALYZE orders;
+ANALYZE order_items;
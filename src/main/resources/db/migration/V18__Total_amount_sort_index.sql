@@ -0,0 +1,3 @@
+-- Index for sorting listings by totalAmount, the only OrderSortField without one
+-- (see OrderSortField for the index behind every sortable field).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_total_amount_id ON orders(total_amount, id);
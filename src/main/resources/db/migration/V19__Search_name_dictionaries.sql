@@ -0,0 +1,50 @@
+-- Name dictionaries for the order search (OrderSearchService)
+-- A term is matched against the distinct customer and product names first, which stay small however many orders
+-- there are; only the orders of the best matching names are read afterwards. customers comes from V16,
+-- product_names is kept up to date by a statement-level trigger on order_items. Names are never removed, a name
+-- without orders simply finds nothing.
+--
+-- Runs outside a transaction (quarkus.flyway.mixed=true, because of CREATE INDEX CONCURRENTLY), so orders and
+-- order_items stay writable. The trigger exists before the backfill, so items inserted meanwhile are not missed.
+
+CREATE TABLE IF NOT EXISTS product_names (
+    name VARCHAR(200) PRIMARY KEY
+);
+
+CREATE OR REPLACE FUNCTION order_items_product_names_trigger()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Sorted, so concurrent statements insert new names in the same order
+    INSERT INTO product_names (name)
+    SELECT DISTINCT product_name FROM new_items ORDER BY product_name
+    ON CONFLICT (name) DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_order_items_product_names_insert
+    AFTER INSERT ON order_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION order_items_product_names_trigger();
+
+CREATE TRIGGER trg_order_items_product_names_update
+    AFTER UPDATE ON order_items
+    REFERENCING NEW TABLE AS new_items
+    FOR EACH STATEMENT EXECUTE FUNCTION order_items_product_names_trigger();
+
+INSERT INTO product_names (name)
+SELECT DISTINCT product_name FROM order_items
+ON CONFLICT (name) DO NOTHING;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customers_name_trgm
+    ON customers USING gin (search_key(name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_names_name_trgm
+    ON product_names USING gin (search_key(name) gin_trgm_ops);
+
+-- Orders of a matched product, newest first, for the search pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_product_name_order_id ON order_items(product_name, order_id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_items_product_name;
+
+ANALYZE product_names;
+
+COMMENT ON TABLE product_names IS 'Distinct order_items.product_name values for the search, maintained by trg_order_items_product_names_*';
@@ -0,0 +1,44 @@
+package com.must5;
+
+import io.restassured.http.ContentType;
+
+import java.time.LocalDate;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Create-order request bodies, and orders created through the API with them. Without items an
+ * order gets a single "Product A" line of 1 x 10.00.
+ */
+public final class OrderFixtures {
+
+    public static final LocalDate DATE = LocalDate.of(2025, 12, 4);
+
+    private OrderFixtures() {
+    }
+
+    public static String item(String productName, int quantity, String price) {
+        return "{\"productName\":\"" + productName + "\",\"quantity\":" + quantity + ",\"price\":" + price + "}";
+    }
+
+    public static String order(String customerName, LocalDate orderDate, String... items) {
+        String lines = items.length == 0 ? item("Product A", 1, "10.00") : String.join(",", items);
+        return "{\"customerName\":\"" + customerName + "\",\"orderDate\":\"" + orderDate + "\",\"items\":[" + lines + "]}";
+    }
+
+    // POST /orders, returns the id of the created order
+    public static long create(String customerName, LocalDate orderDate, String... items) {
+        return create("/orders", customerName, orderDate, items);
+    }
+
+    // POST to the given create endpoint, e.g. /reactive/orders
+    public static long create(String path, String customerName, LocalDate orderDate, String... items) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(order(customerName, orderDate, items))
+          .when().post(path)
+          .then()
+            .statusCode(201)
+            .extract().jsonPath().getLong("data.id");
+    }
+}
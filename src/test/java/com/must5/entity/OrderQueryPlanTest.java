@@ -0,0 +1,140 @@
+package com.must5.entity;
+
+import com.must5.pagination.OrderCursor;
+import com.must5.pagination.OrderSortField;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every Panache query on orders is answered from an index in the requested
+ * order. The SQL Hibernate generates is prepared again and explained with sequential and
+ * bitmap scans disabled, so the small test table cannot hide a missing index: the plan
+ * must contain an index scan and no Sort node.
+ */
+@QuarkusTest
+class OrderQueryPlanTest {
+
+    private static final String CUSTOMER = "Budi Santoso";
+
+    @Inject
+    SqlRecorder sqlRecorder;
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    void findByCustomerNameUsesIndexOrder() throws SQLException {
+        String sql = capture(() -> Order.findByCustomerName(CUSTOMER));
+        assertIndexScanWithoutSort(explain(sql, CUSTOMER));
+    }
+
+    @Test
+    void findByDateRangeUsesIndexOrder() throws SQLException {
+        String sql = capture(() -> Order.findByDateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+        assertIndexScanWithoutSort(explain(sql, "2024-01-01", "2024-12-31"));
+    }
+
+    @Test
+    void countByCustomerNameUsesIndex() throws SQLException {
+        String sql = capture(() -> Order.countByCustomerName(CUSTOMER));
+        assertIndexScanWithoutSort(explain(sql, CUSTOMER));
+    }
+
+    @Test
+    void cursorByOrderDateUsesIndexOrder() throws SQLException {
+        OrderCursor first = OrderCursor.first(OrderSortField.ORDER_DATE, true);
+        assertIndexScanWithoutSort(explain(capture(() -> Order.findWithCursor(null, first, 20))));
+        assertIndexScanWithoutSort(explain(capture(() -> Order.findWithCursor(CUSTOMER, first, 20)), CUSTOMER));
+
+        OrderCursor next = first.next(LocalDate.of(2024, 1, 20), 100L);
+        assertIndexScanWithoutSort(explain(capture(() -> Order.findWithCursor(null, next, 20)), "2024-01-20", "100"));
+    }
+
+    @Test
+    void everySortFieldUsesItsIndex() throws SQLException {
+        for (OrderSortField sortField : OrderSortField.values()) {
+            for (boolean descending : new boolean[] {true, false}) {
+                String sql = capture(() -> Order.findWithCursor(null, OrderCursor.first(sortField, descending), 20));
+                String plan = explain(sql);
+                assertIndexScanWithoutSort(plan);
+                assertTrue(plan.contains(sortField.getIndex()), sortField + " should use " + sortField.getIndex() + ":\n" + plan);
+            }
+        }
+    }
+
+    private String capture(Runnable query) {
+        sqlRecorder.reset();
+        // Bypass the query cache so the statement is always sent
+        QuarkusTransaction.requiringNew().run(() -> {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            query.run();
+        });
+        String sql = sqlRecorder.lastSql();
+        assertNotNull(sql, "No SQL was recorded");
+        return sql;
+    }
+
+    /**
+     * Explains the statement with the given values bound to its parameters in order of appearance.
+     * Remaining parameters are the LIMIT/OFFSET Hibernate adds for paged queries and get 20.
+     */
+    private String explain(String sql, String... values) throws SQLException {
+        StringBuilder numbered = new StringBuilder();
+        List<String> arguments = new ArrayList<>();
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                String value = arguments.size() < values.length ? values[arguments.size()] : "20";
+                arguments.add("'" + value.replace("'", "''") + "'");
+                numbered.append('$').append(arguments.size());
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            statement.execute("SET enable_bitmapscan = off");
+            statement.execute("PREPARE plan_check AS " + numbered);
+            try (ResultSet rows = statement.executeQuery(
+                    "EXPLAIN EXECUTE plan_check" + (arguments.isEmpty() ? "" : "(" + String.join(", ", arguments) + ")"))) {
+                StringBuilder plan = new StringBuilder();
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+                return plan.toString();
+            } finally {
+                statement.execute("DEALLOCATE plan_check");
+                statement.execute("RESET ALL");
+            }
+        }
+    }
+
+    private static void assertIndexScanWithoutSort(String plan) {
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), "Expected an index scan:\n" + plan);
+        boolean sorts = plan.lines()
+                .map(line -> line.strip().replaceFirst("^->\\s*", ""))
+                .anyMatch(line -> line.startsWith("Sort") || line.startsWith("Incremental Sort"));
+        assertTrue(!sorts, "Expected no sort step:\n" + plan);
+    }
+}
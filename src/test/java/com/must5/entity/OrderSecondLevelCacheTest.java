@@ -0,0 +1,69 @@
+package com.must5.entity;
+
+import com.must5.OrderFixtures;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The second-level and query caches of the blocking side must notice writes made through
+ * ReactiveOrder, which bypass the blocking session factory.
+ */
+@QuarkusTest
+class OrderSecondLevelCacheTest {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void namedQueryIsServedFromQueryCache() {
+        String customer = "L2 Cache " + UUID.randomUUID();
+        create("/orders", customer);
+
+        assertEquals(1, ordersOf(customer));
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        assertEquals(1, ordersOf(customer));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void reactiveWritesEvictBlockingCaches() {
+        String customer = "L2 Cache " + UUID.randomUUID();
+        long first = create("/orders", customer);
+        assertEquals(1, ordersOf(customer));
+        QuarkusTransaction.requiringNew().run(() -> Order.<Order>findById(first).getItems().size());
+        assertTrue(sessionFactory.getCache().containsEntity(Order.class, first));
+
+        create("/reactive/orders", customer);
+        assertEquals(2, ordersOf(customer));
+
+        given()
+          .when().delete("/reactive/orders/" + first)
+          .then()
+            .statusCode(204);
+        assertFalse(sessionFactory.getCache().containsEntity(Order.class, first));
+        assertFalse(sessionFactory.getCache().containsCollection(Order.class.getName() + ".items", first));
+        assertEquals(1, ordersOf(customer));
+    }
+
+    private static int ordersOf(String customer) {
+        return QuarkusTransaction.requiringNew().call(() -> Order.findByCustomerName(customer).size());
+    }
+
+    private static long create(String path, String customer) {
+        return OrderFixtures.create(path, customer, OrderFixtures.DATE);
+    }
+}
@@ -0,0 +1,43 @@
+package com.must5.entity;
+
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Remembers the last SQL statement Hibernate prepared on the current thread, so tests
+ * can look at the SQL generated for a Panache query, and every statement since the last
+ * {@link #reset()} on any thread, for requests served by the HTTP worker threads.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class SqlRecorder implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    private final Queue<String> statements = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_SQL.set(sql);
+        statements.add(sql);
+        return sql;
+    }
+
+    public void reset() {
+        LAST_SQL.remove();
+        statements.clear();
+    }
+
+    public String lastSql() {
+        return LAST_SQL.get();
+    }
+
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+}
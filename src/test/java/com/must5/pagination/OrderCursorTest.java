@@ -0,0 +1,81 @@
+package com.must5.pagination;
+
+import io.quarkus.panache.common.Sort;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderCursorTest {
+
+    @Test
+    void roundTripKeepsFieldDirectionAndPosition() {
+        assertRoundTrip(OrderCursor.first(OrderSortField.TOTAL_AMOUNT, true).next(new BigDecimal("150.00"), 42L));
+        assertRoundTrip(OrderCursor.first(OrderSortField.ORDER_DATE, false).next(LocalDate.of(2025, 12, 4), 7L));
+        assertRoundTrip(OrderCursor.first(OrderSortField.CREATED_AT, true)
+            .next(LocalDateTime.of(2025, 12, 4, 10, 15, 30, 123456000), 9L));
+        assertRoundTrip(OrderCursor.first(OrderSortField.ID, true).next(11L, 11L));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(token("CUSTOMER_NAME|desc|42|Alice")));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(token("TOTAL_AMOUNT|sideways|42|150.00")));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(token("TOTAL_AMOUNT|desc|x|150.00")));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(token("ORDER_DATE|desc|42|yesterday")));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(token("ORDER_DATE|desc|42")));
+    }
+
+    @Test
+    void cursorOfAnotherListingIsRejected() {
+        String searchCursor = new SearchCursor(new BigDecimal("0.5000"), 42L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(searchCursor));
+    }
+
+    @Test
+    void tiesOnTheSortValueAreBrokenById() {
+        OrderCursor cursor = OrderCursor.first(OrderSortField.TOTAL_AMOUNT, true).next(new BigDecimal("150.00"), 42L);
+
+        // Rows with the same amount and a smaller id still follow the cursor
+        assertEquals("(totalAmount, id) < (:lastValue, :lastId)", cursor.seekCondition());
+        List<Sort.Column> columns = cursor.sort().getColumns();
+        assertEquals(List.of("totalAmount", "id"), columns.stream().map(Sort.Column::getName).toList());
+        assertTrue(columns.stream().allMatch(column -> column.getDirection() == Sort.Direction.Descending));
+    }
+
+    @Test
+    void firstPageHasNoSeek() {
+        OrderCursor cursor = OrderCursor.first(OrderSortField.ORDER_DATE, true);
+
+        assertTrue(cursor.isFirstPage());
+        assertEquals("", cursor.seekCondition());
+        assertTrue(cursor.seekParameters().isEmpty());
+    }
+
+    private static void assertRoundTrip(OrderCursor cursor) {
+        OrderCursor decoded = OrderCursor.decode(cursor.encode());
+
+        assertEquals(cursor.getSortField(), decoded.getSortField());
+        assertEquals(cursor.isDescending(), decoded.isDescending());
+        assertFalse(decoded.isFirstPage());
+        Map<String, Object> expected = cursor.seekParameters();
+        assertEquals(expected, decoded.seekParameters());
+        assertEquals(cursor.seekCondition(), decoded.seekCondition());
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
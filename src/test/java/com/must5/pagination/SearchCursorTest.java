@@ -0,0 +1,28 @@
+package com.must5.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTripKeepsScoreExactly() {
+        SearchCursor cursor = SearchCursor.decode(new SearchCursor(new BigDecimal("0.5000"), 42L).encode());
+
+        assertEquals(new BigDecimal("0.5000"), cursor.getLastScore());
+        assertEquals(42L, cursor.getLastId());
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("not a cursor"));
+        String withoutId = Base64.getUrlEncoder().encodeToString("0.5000".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(withoutId));
+    }
+}
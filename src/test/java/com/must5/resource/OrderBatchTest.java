@@ -0,0 +1,98 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The batch spans three chunks of orders.batch.chunk-size (100). One order is rejected by validation and one
+ * fails on insert, which fails its whole chunk and makes the endpoint retry that chunk order by order.
+ */
+@QuarkusTest
+class OrderBatchTest {
+
+    private static final int ORDERS = 205;
+    private static final int INVALID = 7;
+    private static final int OVERFLOWING = 150;
+
+    @Test
+    void blockingBatchIsolatesFailedOrders() {
+        assertBatch("/orders");
+    }
+
+    @Test
+    void reactiveBatchIsolatesFailedOrders() {
+        assertBatch("/reactive/orders");
+    }
+
+    private static void assertBatch(String basePath) {
+        // Two interleaved customers, so the (customer, date) insert order differs from the request order
+        String first = "Batch Check " + UUID.randomUUID();
+        String second = "Batch Check " + UUID.randomUUID();
+        List<String> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            if (i == INVALID) {
+                orders.add(order("", 1, "1.00"));
+            } else if (i == OVERFLOWING) {
+                // 1000 x 99,999,999.00 overflows orders.total_amount (DECIMAL(12,2))
+                orders.add(order(first, 1000, "99999999.00"));
+            } else {
+                orders.add(order(i % 2 == 0 ? first : second, i + 1, "1.00"));
+            }
+        }
+
+        JsonPath response = given()
+            .contentType(ContentType.JSON)
+            .body("[" + String.join(",", orders) + "]")
+          .when().post(basePath + "/batch")
+          .then()
+            .statusCode(207)
+            .body("data.total", is(ORDERS))
+            .body("data.succeeded", is(ORDERS - 2))
+            .body("data.failed", is(2))
+            .extract().jsonPath();
+
+        for (int i = 0; i < ORDERS; i++) {
+            String result = "data.results[" + i + "]";
+            assertEquals(i, response.getInt(result + ".index"));
+            if (i == INVALID || i == OVERFLOWING) {
+                assertEquals("FAILED", response.getString(result + ".status"));
+                assertNull(response.get(result + ".orderId"));
+            } else {
+                assertEquals("CREATED", response.getString(result + ".status"));
+                assertNotNull(response.get(result + ".orderId"));
+                // Each result belongs to its own request: quantity i + 1 at 1.00
+                assertEquals(i + 1, response.getDouble(result + ".totalAmount"), 0.001);
+            }
+        }
+        assertNotNull(response.get("data.results[" + INVALID + "].errors.customerName"));
+
+        given()
+          .when().get("/orders/customers/" + first + "?total=exact")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", is(102));
+        given()
+          .when().get("/orders/customers/" + second + "?total=exact")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", is(101));
+    }
+
+    private static String order(String customer, int quantity, String price) {
+        return OrderFixtures.order(customer, OrderFixtures.DATE, item("Product A", quantity, price));
+    }
+}
@@ -0,0 +1,61 @@
+package com.must5.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.DATE;
+import static com.must5.OrderFixtures.create;
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Walks the cursor pages of a customer listing (newest order date first, id as tiebreaker) while
+ * orders are added in front of the cursor, which would shift an OFFSET listing by one row per insert.
+ */
+@QuarkusTest
+class OrderCursorPagingTest {
+
+    @Test
+    void walkingEveryPageReturnsEveryOrderOnce() {
+        String customer = "Cursor Check " + UUID.randomUUID();
+        // Three dates with several orders each, so pages end in the middle of a tie
+        List<Long> expected = new ArrayList<>();
+        for (int day = 2; day >= 0; day--) {
+            List<Long> sameDate = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                sameDate.add(create(customer, DATE.plusDays(day)));
+            }
+            sameDate.sort((a, b) -> Long.compare(b, a));
+            expected.addAll(sameDate);
+        }
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            JsonPath page = given()
+                .queryParam("cursor", cursor)
+                .queryParam("size", 2)
+                .queryParam("total", "none")
+              .when().get("/orders/customers/" + customer)
+              .then()
+                .statusCode(200)
+                .extract().jsonPath();
+            walked.addAll(page.getList("data.id", Long.class));
+            cursor = page.getString("paginate.nextCursor");
+            assertEquals(cursor != null, page.getBoolean("paginate.hasNext"));
+            pages++;
+
+            // Newer than everything listed so far: sorts before the cursor and must not show up
+            create(customer, DATE.plusDays(10));
+        }
+
+        assertEquals(expected, walked);
+        assertEquals(5, pages);
+    }
+}
@@ -0,0 +1,175 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.DATE;
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Framing of GET /orders/export and /reactive/orders/export: one JSON order per NDJSON line or per
+ * SSE "data:" event, in id order, streamed without a Content-Length. The blocking SSE export is also
+ * read off the socket to check that every event is flushed on its own.
+ */
+@QuarkusTest
+class OrderExportTest {
+
+    @TestHTTPResource
+    URL baseUrl;
+
+    @Test
+    void ndjsonHasOneOrderPerLine() {
+        assertNdjson("/orders/export");
+        assertNdjson("/reactive/orders/export");
+    }
+
+    @Test
+    void sseHasOneOrderPerEvent() {
+        assertSse("/orders/export");
+        assertSse("/reactive/orders/export");
+    }
+
+    @Test
+    void everySseEventIsFlushedAsItsOwnChunk() throws IOException {
+        String customer = "Export Check " + UUID.randomUUID();
+        List<Long> ids = List.of(create(customer, DATE), create(customer, DATE), create(customer, DATE));
+
+        // Events left in the writer's buffer would reach the client together in one chunk at the end
+        List<String> chunks = chunks("/orders/export?customerName=" + URLEncoder.encode(customer, StandardCharsets.UTF_8),
+            "text/event-stream");
+        assertEquals(ids.size(), chunks.size(), String.join("|", chunks));
+        for (int i = 0; i < chunks.size(); i++) {
+            assertTrue(chunks.get(i).startsWith("data: ") && chunks.get(i).endsWith("\n\n"), chunks.get(i));
+            assertEquals(ids.get(i), JsonPath.from(chunks.get(i).substring("data: ".length()).strip()).getLong("id"));
+        }
+    }
+
+    @Test
+    void invalidDateRangeIsRejected() {
+        given()
+            .accept("application/x-ndjson")
+          .when().get("/orders/export?from=2025-12-05&to=2025-12-04")
+          .then()
+            .statusCode(400);
+        given()
+            .accept("application/x-ndjson")
+          .when().get("/reactive/orders/export?from=yesterday")
+          .then()
+            .statusCode(400);
+    }
+
+    private static void assertNdjson(String path) {
+        String customer = "Export Check " + UUID.randomUUID();
+        List<Long> ids = List.of(create(customer, DATE), create(customer, DATE.plusDays(1)), create(customer, DATE.plusDays(2)));
+
+        Response response = export(path, customer, "application/x-ndjson", "&from=" + DATE.plusDays(1));
+        assertTrue(response.getContentType().startsWith("application/x-ndjson"), response.getContentType());
+        assertNull(response.getHeader("Content-Length"));
+
+        List<String> lines = Arrays.asList(response.asString().split("\n"));
+        assertEquals(2, lines.size(), response.asString());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonPath order = JsonPath.from(lines.get(i));
+            assertEquals(ids.get(i + 1), order.getLong("id"));
+            assertEquals(customer, order.getString("customerName"));
+            assertEquals(2, order.getList("items").size());
+        }
+    }
+
+    private static void assertSse(String path) {
+        String customer = "Export Check " + UUID.randomUUID();
+        List<Long> ids = List.of(create(customer, DATE), create(customer, DATE));
+
+        Response response = export(path, customer, "text/event-stream", "");
+        assertTrue(response.getContentType().startsWith("text/event-stream"), response.getContentType());
+        assertNull(response.getHeader("Content-Length"));
+
+        List<String> events = Arrays.stream(response.asString().split("\n\n")).filter(event -> !event.isBlank()).toList();
+        assertEquals(ids.size(), events.size(), response.asString());
+        for (int i = 0; i < events.size(); i++) {
+            String event = events.get(i).strip();
+            assertTrue(event.startsWith("data:"), event);
+            JsonPath order = JsonPath.from(event.substring("data:".length()).strip());
+            assertEquals(ids.get(i), order.getLong("id"));
+            assertEquals(2, order.getList("items").size());
+        }
+    }
+
+    private static Response export(String path, String customer, String accept, String filter) {
+        return given()
+            .accept(accept)
+          .when().get(path + "?customerName=" + customer + filter)
+          .then()
+            .statusCode(200)
+            .extract().response();
+    }
+
+    // Body chunks of a chunked HTTP/1.1 response, as the server wrote them
+    private List<String> chunks(String pathAndQuery, String accept) throws IOException {
+        try (Socket socket = new Socket(baseUrl.getHost(), baseUrl.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + pathAndQuery + " HTTP/1.1\r\nHost: " + baseUrl.getHost() + "\r\nAccept: " + accept
+                + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            String statusLine = readLine(in);
+            assertTrue(statusLine.contains(" 200 "), statusLine);
+            boolean chunked = false;
+            for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+                chunked |= header.equalsIgnoreCase("transfer-encoding: chunked");
+            }
+            assertTrue(chunked, "Export should be sent with chunked transfer encoding");
+
+            List<String> chunks = new ArrayList<>();
+            for (int size = Integer.parseInt(readLine(in).split(";")[0].trim(), 16); size > 0;
+                 size = Integer.parseInt(readLine(in).split(";")[0].trim(), 16)) {
+                byte[] chunk = new byte[size];
+                in.readFully(chunk);
+                readLine(in);
+                chunks.add(new String(chunk, StandardCharsets.UTF_8));
+            }
+            return chunks;
+        }
+    }
+
+    private static String readLine(DataInputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int c = in.read(); c != '\n'; c = in.read()) {
+            if (c == -1) {
+                throw new EOFException("Connection closed after: " + line);
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static long create(String customer, LocalDate date) {
+        return OrderFixtures.create(customer, date, item("Product A", 1, "10.00"), item("Product B", 2, "5.00"));
+    }
+}
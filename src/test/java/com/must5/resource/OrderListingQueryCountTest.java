@@ -0,0 +1,128 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class OrderListingQueryCountTest {
+
+    private static final int ORDERS = 12;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private String customerName;
+
+    @BeforeEach
+    void createOrders() {
+        customerName = "N+1 Check " + UUID.randomUUID();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderFixtures.create(customerName, OrderFixtures.DATE,
+                item("Product A", 1, "10.00"), item("Product B", 2, "5.00"));
+        }
+    }
+
+    @Test
+    void listingLoadsItemsWithOneQuery() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+          .when().get("/orders?size=" + ORDERS + "&total=none")
+          .then()
+            .statusCode(200)
+            .body("data.size()", is(ORDERS));
+
+        // page query + one fetch join for the items
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void customerListingLoadsItemsWithOneQuery() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+          .when().get("/orders/customers/" + customerName + "?size=" + ORDERS)
+          .then()
+            .statusCode(200)
+            .body("data.size()", is(ORDERS))
+            .body("data[0].items.size()", is(2));
+
+        // page query + exact count + one fetch join for the items
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cursorListingLoadsItemsWithOneQuery() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+          .when().get("/orders?cursor=&customerName=" + customerName + "&size=" + ORDERS + "&total=none")
+          .then()
+            .statusCode(200)
+            .body("data.size()", is(ORDERS));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void lookupLoadsOrdersAndItemsWithTwoQueries() {
+        String ids = given()
+          .when().get("/orders/customers/" + customerName + "?size=" + ORDERS + "&total=none")
+          .then()
+            .statusCode(200)
+            .extract().jsonPath().getList("data.id").toString();
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\":" + ids.substring(0, ids.length() - 1) + ", -1]}")
+          .when().post("/orders/lookup")
+          .then()
+            .statusCode(200)
+            .body("data.orders.size()", is(ORDERS))
+            .body("data.orders[0].items.size()", is(2))
+            .body("data.missingIds", hasItems(-1));
+
+        // orders + items, however many ids are requested
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void sparseListingSkipsItems() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+          .when().get("/orders/customers/" + customerName + "?size=" + ORDERS + "&total=none&fields=customerName,totalAmount")
+          .then()
+            .statusCode(200)
+            .body("data.size()", is(ORDERS))
+            .body("data[0]", not(hasKey("items")))
+            .body("data[0]", not(hasKey("orderDate")))
+            .body("data[0].customerName", is(customerName));
+
+        // page query only, no items query
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,120 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * POST /orders/lookup and /reactive/orders/lookup answer in the requested order, list unknown ids
+ * in missingIds and answer a repeated id once.
+ */
+@QuarkusTest
+class OrderLookupTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void createOrders() {
+        String customer = "Lookup Check " + UUID.randomUUID();
+        ids.clear();
+        for (int quantity = 1; quantity <= 3; quantity++) {
+            ids.add(OrderFixtures.create(customer, OrderFixtures.DATE,
+                item("Product A", quantity, "10.00"), item("Product B", 1, "1.00")));
+        }
+    }
+
+    @Test
+    void ordersComeBackInTheRequestedOrder() {
+        List<Long> requested = List.of(ids.get(2), MISSING_ID, ids.get(0), ids.get(1), ids.get(0));
+        List<Long> expected = List.of(ids.get(2), ids.get(0), ids.get(1));
+
+        for (String path : List.of("/orders/lookup", "/reactive/orders/lookup")) {
+            JsonPath lookup = lookup(path, requested)
+              .then()
+                .statusCode(200)
+                .body("message", is("3 orders found, 1 missing"))
+                .body("data.orders[0].totalAmount", is(31.0f))
+                .body("data.orders[0].items.size()", is(2))
+                .extract().jsonPath();
+
+            assertEquals(expected, lookup.getList("data.orders.id", Long.class));
+            assertEquals(List.of(MISSING_ID), lookup.getList("data.missingIds", Long.class));
+        }
+    }
+
+    @Test
+    void blockingLookupRunsTwoQueries() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        lookup("/orders/lookup", ids)
+          .then()
+            .statusCode(200);
+
+        // orders + items, however many ids were asked for
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void onlyMissingIdsIsNotAnError() {
+        for (String path : List.of("/orders/lookup", "/reactive/orders/lookup")) {
+            lookup(path, List.of(MISSING_ID))
+              .then()
+                .statusCode(200)
+                .body("data.orders.size()", is(0))
+                .body("data.missingIds.size()", is(1));
+        }
+    }
+
+    @Test
+    void invalidRequestsAreRejected() {
+        // orders.lookup.max-ids is 500
+        List<Long> tooMany = LongStream.rangeClosed(1, 501).boxed().collect(Collectors.toList());
+
+        for (String path : List.of("/orders/lookup", "/reactive/orders/lookup")) {
+            lookup(path, List.of())
+              .then()
+                .statusCode(400);
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"ids\":[" + ids.get(0) + ",null]}")
+              .when().post(path)
+              .then()
+                .statusCode(400);
+            lookup(path, tooMany)
+              .then()
+                .statusCode(400)
+                .body("message", is("Lookup must not contain more than 500 ids"));
+        }
+    }
+
+    private static Response lookup(String path, List<Long> requested) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\":" + requested + "}")
+          .when().post(path);
+    }
+}
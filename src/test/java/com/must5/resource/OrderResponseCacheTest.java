@@ -0,0 +1,83 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@QuarkusTest
+class OrderResponseCacheTest {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private long orderId;
+
+    @BeforeEach
+    void createOrder() {
+        orderId = OrderFixtures.create("Cache Check", OrderFixtures.DATE);
+    }
+
+    @Test
+    void matchingEtagIsAnsweredWithoutTheDatabase() {
+        String etag = given()
+          .when().get("/orders/" + orderId)
+          .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .body("data.id", is((int) orderId))
+            .extract().header("ETag");
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+            .header("If-None-Match", etag)
+          .when().get("/orders/" + orderId)
+          .then()
+            .statusCode(304)
+            .header("ETag", etag);
+
+        // The reactive resource shares the cache
+        given()
+            .header("If-None-Match", etag)
+          .when().get("/reactive/orders/" + orderId)
+          .then()
+            .statusCode(304);
+
+        given()
+          .when().get("/orders/" + orderId)
+          .then()
+            .statusCode(200)
+            .header("ETag", etag)
+            .body("data.customerName", is("Cache Check"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteEvictsTheOrder() {
+        given()
+          .when().get("/orders/" + orderId)
+          .then()
+            .statusCode(200);
+
+        given()
+          .when().delete("/reactive/orders/" + orderId)
+          .then()
+            .statusCode(204);
+
+        given()
+          .when().get("/orders/" + orderId)
+          .then()
+            .statusCode(404);
+    }
+}
@@ -0,0 +1,86 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ?sort= only accepts the index-backed fields of OrderSortField; anything else, customerName
+ * included, is answered with 400 before a query runs.
+ */
+@QuarkusTest
+class OrderSortWhitelistTest {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void fieldsOutsideTheWhitelistAreRejected() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        for (String sort : List.of("customerName", "items", "total_amount", "id desc", "id;DROP TABLE orders")) {
+            for (String path : List.of("/orders", "/reactive/orders")) {
+                given()
+                    .queryParam("sort", sort)
+                  .when().get(path)
+                  .then()
+                    .statusCode(400)
+                    .body("status", is("BAD_REQUEST"))
+                    .body("message", containsString("Supported fields: id, createdAt, orderDate, totalAmount"));
+                given()
+                    .queryParam("sort", sort)
+                    .queryParam("cursor", "")
+                  .when().get(path)
+                  .then()
+                    .statusCode(400);
+            }
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void whitelistedFieldsSortBothListings() {
+        String customer = "Sort Check " + UUID.randomUUID();
+        // Amounts and dates in opposite order, so sorting by one differs from sorting by the other
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(OrderFixtures.create(customer, OrderFixtures.DATE.plusDays(i), item("Product A", 3 - i, "10.00")));
+        }
+        List<Long> reversed = List.of(ids.get(2), ids.get(1), ids.get(0));
+
+        for (String path : List.of("/orders", "/reactive/orders")) {
+            assertEquals(ids, sorted(path, customer, "id", "asc"));
+            assertEquals(ids, sorted(path, customer, "createdAt", "asc"));
+            assertEquals(reversed, sorted(path, customer, "orderDate", "desc"));
+            assertEquals(reversed, sorted(path, customer, "totalAmount", "asc"));
+        }
+    }
+
+    private static List<Long> sorted(String path, String customer, String sort, String order) {
+        JsonPath response = given()
+            .queryParam("customerName", customer)
+            .queryParam("sort", sort)
+            .queryParam("order", order)
+          .when().get(path)
+          .then()
+            .statusCode(200)
+            .extract().jsonPath();
+        return response.getList("data.id", Long.class);
+    }
+}
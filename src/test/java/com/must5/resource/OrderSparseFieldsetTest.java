@@ -0,0 +1,84 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import com.must5.entity.SqlRecorder;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A sparse fieldset selects only the requested columns and leaves order_items alone unless
+ * the items are asked for; the JSON carries exactly the requested keys plus the id.
+ */
+@QuarkusTest
+class OrderSparseFieldsetTest {
+
+    @Inject
+    SqlRecorder sqlRecorder;
+
+    @Test
+    void orderByIdReturnsOnlyTheRequestedFields() {
+        long id = create("Sparse Check " + UUID.randomUUID());
+        sqlRecorder.reset();
+
+        Map<String, Object> order = given()
+          .when().get("/orders/" + id + "?fields=customerName,totalAmount")
+          .then()
+            .statusCode(200)
+            .extract().jsonPath().getMap("data");
+
+        assertEquals(Set.of("id", "customerName", "totalAmount"), order.keySet());
+        assertItemsNotQueried();
+    }
+
+    @Test
+    void listingReturnsOnlyTheRequestedFields() {
+        String customer = "Sparse Check " + UUID.randomUUID();
+        create(customer);
+        create(customer);
+        sqlRecorder.reset();
+
+        Map<String, Object> order = given()
+          .when().get("/orders/customers/" + customer + "?fields=totalAmount&total=none")
+          .then()
+            .statusCode(200)
+            .body("data.size()", is(2))
+            .extract().jsonPath().getMap("data[0]");
+
+        assertEquals(Set.of("id", "totalAmount"), order.keySet());
+        assertItemsNotQueried();
+    }
+
+    @Test
+    void includeItemsAddsThemToTheFieldset() {
+        long id = create("Sparse Check " + UUID.randomUUID());
+
+        Map<String, Object> order = given()
+          .when().get("/orders/" + id + "?fields=totalAmount&include=items")
+          .then()
+            .statusCode(200)
+            .body("data.items.size()", is(2))
+            .extract().jsonPath().getMap("data");
+
+        assertEquals(Set.of("id", "totalAmount", "items"), order.keySet());
+    }
+
+    private void assertItemsNotQueried() {
+        assertTrue(sqlRecorder.statements().stream().noneMatch(sql -> sql.contains("order_items")),
+            () -> "order_items should not be read:\n" + String.join("\n", sqlRecorder.statements()));
+    }
+
+    private static long create(String customer) {
+        return OrderFixtures.create(customer, OrderFixtures.DATE, item("Product A", 1, "10.00"), item("Product B", 2, "5.00"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ?total= on the listings: exact counts every page, estimate counts a filtered listing once per
+ * orders.count.cache-ttl and reads the table statistics otherwise, none leaves the total out.
+ */
+@QuarkusTest
+class OrderTotalModeTest {
+
+    private static final int ORDERS = 3;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private String customerName;
+
+    @BeforeEach
+    void createOrders() {
+        customerName = "Total Check " + UUID.randomUUID();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderFixtures.create(customerName, OrderFixtures.DATE);
+        }
+    }
+
+    @Test
+    void exactCountsEveryPage() {
+        for (int i = 0; i < 2; i++) {
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            given()
+              .when().get("/orders/customers/" + customerName + "?size=2&total=exact")
+              .then()
+                .statusCode(200)
+                .body("paginate.total", is(ORDERS))
+                .body("paginate.totalType", is("exact"))
+                .body("paginate.totalPages", is(2))
+                .body("paginate.hasNext", is(true));
+
+            // page query + count + items
+            assertEquals(3, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    void estimateCountsAFilteredListingOnce() {
+        given()
+          .when().get("/orders/customers/" + customerName + "?size=2&total=estimate")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", is(ORDERS))
+            .body("paginate.totalType", is("estimate"));
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        given()
+          .when().get("/orders/customers/" + customerName + "?size=2&total=estimate")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", is(ORDERS));
+
+        // page query + items, the count comes from the cache
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void estimateOfAllOrdersIsPositive() {
+        given()
+          .when().get("/orders?size=2&total=estimate")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", greaterThan(0))
+            .body("paginate.totalType", is("estimate"));
+        given()
+          .when().get("/reactive/orders?size=2&total=estimate")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", greaterThan(0))
+            .body("paginate.totalType", is("estimate"));
+    }
+
+    @Test
+    void noneLeavesTheTotalOut() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        given()
+          .when().get("/orders/customers/" + customerName + "?size=2&total=none")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", nullValue())
+            .body("paginate.totalPages", nullValue())
+            .body("paginate.totalType", is("none"))
+            .body("paginate.hasNext", is(true));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        given()
+          .when().get("/reactive/orders/customers/" + customerName + "?size=2&total=none")
+          .then()
+            .statusCode(200)
+            .body("paginate.total", nullValue())
+            .body("paginate.totalType", is("none"))
+            .body("data.size()", is(2));
+    }
+
+    @Test
+    void unknownModeIsRejected() {
+        given()
+          .when().get("/orders?total=approximate")
+          .then()
+            .statusCode(400);
+        given()
+          .when().get("/reactive/orders?total=approximate")
+          .then()
+            .statusCode(400);
+    }
+}
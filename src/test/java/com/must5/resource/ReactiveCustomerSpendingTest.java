@@ -0,0 +1,121 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * GET /reactive/orders/customers/spending reads one page of customer_spending, ordered by total
+ * spending (highest first) and customer name, like GET /orders/customers/spending.
+ */
+@QuarkusTest
+class ReactiveCustomerSpendingTest {
+
+    private static final int SIZE = 5;
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void pagesAreOrderedBySpendingThenName() throws SQLException {
+        long customers = countCustomers();
+        List<String> walked = new ArrayList<>();
+        for (int page = 1; page <= 2; page++) {
+            JsonPath response = page("/reactive/orders/customers/spending", page);
+            assertEquals(customers, response.getLong("paginate.total"));
+            assertEquals((int) Math.ceil((double) customers / SIZE), response.getInt("paginate.totalPages"));
+            walked.addAll(response.getList("data.customerName", String.class));
+        }
+
+        // Names compared in the database, so ties follow its collation
+        assertEquals(firstCustomers(2 * SIZE), walked);
+    }
+
+    @Test
+    void pagesMatchTheBlockingListing() {
+        for (int page = 1; page <= 2; page++) {
+            assertEquals(page("/orders/customers/spending", page).getList("data"),
+                page("/reactive/orders/customers/spending", page).getList("data"));
+        }
+    }
+
+    @Test
+    void customerIsListedOnThePageOfItsRank() throws SQLException {
+        String customer = "Spending Page Check " + UUID.randomUUID();
+        OrderFixtures.create("/reactive/orders", customer, OrderFixtures.DATE, item("Product A", 3, "12.50"));
+
+        int page = (int) (rank(customer) / SIZE) + 1;
+        given()
+          .when().get("/reactive/orders/customers/spending?size=" + SIZE + "&page=" + page)
+          .then()
+            .statusCode(200)
+            .body("paginate.page", is(page))
+            .body("data.find { it.customerName == '" + customer + "' }.totalOrders", is(1))
+            .body("data.find { it.customerName == '" + customer + "' }.totalSpending", is(37.5f));
+    }
+
+    private static JsonPath page(String path, int page) {
+        return given()
+          .when().get(path + "?size=" + SIZE + "&page=" + page)
+          .then()
+            .statusCode(200)
+            .body("paginate.page", is(page))
+            .body("paginate.size", is(SIZE))
+            .extract().jsonPath();
+    }
+
+    private long countCustomers() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM customer_spending");
+             ResultSet rows = statement.executeQuery()) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private List<String> firstCustomers(int limit) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT customer_name FROM customer_spending ORDER BY total_spending DESC, customer_name LIMIT ?")) {
+            statement.setInt(1, limit);
+            try (ResultSet rows = statement.executeQuery()) {
+                List<String> names = new ArrayList<>();
+                while (rows.next()) {
+                    names.add(rows.getString(1));
+                }
+                return names;
+            }
+        }
+    }
+
+    // Number of customers listed before the given one
+    private long rank(String customer) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT COUNT(*) FROM customer_spending s, customer_spending c WHERE c.customer_name = ? "
+                     + "AND (s.total_spending > c.total_spending "
+                     + "OR s.total_spending = c.total_spending AND s.customer_name < c.customer_name)")) {
+            statement.setString(1, customer);
+            try (ResultSet rows = statement.executeQuery()) {
+                rows.next();
+                return rows.getLong(1);
+            }
+        }
+    }
+}
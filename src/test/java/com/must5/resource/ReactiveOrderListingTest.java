@@ -0,0 +1,93 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * GET /reactive/orders pages, sorts and filters in the database like GET /orders does.
+ */
+@QuarkusTest
+class ReactiveOrderListingTest {
+
+    // Distinct quantities, so every order has its own amount
+    private static final List<Integer> QUANTITIES = List.of(3, 1, 5, 2, 4);
+
+    private String customerName;
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void createOrders() {
+        customerName = "Reactive Listing Check " + UUID.randomUUID();
+        ids.clear();
+        for (int quantity : QUANTITIES) {
+            ids.add(OrderFixtures.create("/reactive/orders", customerName, OrderFixtures.DATE,
+                item("Product A", quantity, "10.00"), item("Product B", 1, "1.00")));
+        }
+    }
+
+    @Test
+    void offsetPagesFollowTheRequestedSort() {
+        List<Long> walked = new ArrayList<>();
+        for (int page = 1; page <= 3; page++) {
+            JsonPath response = given()
+              .when().get("/reactive/orders?customerName=" + customerName + "&sort=totalAmount&order=asc&size=2&page=" + page)
+              .then()
+                .statusCode(200)
+                .body("paginate.total", is(QUANTITIES.size()))
+                .body("paginate.page", is(page))
+                .body("paginate.hasNext", is(page < 3))
+                .body("data[0].items.size()", is(2))
+                .extract().jsonPath();
+            walked.addAll(response.getList("data.id", Long.class));
+        }
+
+        assertEquals(byAmount(), walked);
+    }
+
+    @Test
+    void cursorPagesMatchTheBlockingListing() {
+        List<Long> reactive = walkCursor("/reactive/orders");
+
+        assertEquals(byAmount(), reactive);
+        assertEquals(walkCursor("/orders"), reactive);
+    }
+
+    private List<Long> walkCursor(String path) {
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            JsonPath response = given()
+                .queryParam("customerName", customerName)
+                .queryParam("sort", "totalAmount")
+                .queryParam("order", "asc")
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+              .when().get(path)
+              .then()
+                .statusCode(200)
+                .extract().jsonPath();
+            walked.addAll(response.getList("data.id", Long.class));
+            cursor = response.getString("paginate.nextCursor");
+        }
+        return walked;
+    }
+
+    // Ids ordered by quantity, which is the order of the amounts
+    private List<Long> byAmount() {
+        List<Long> sorted = new ArrayList<>();
+        QUANTITIES.stream().sorted().forEach(quantity -> sorted.add(ids.get(QUANTITIES.indexOf(quantity))));
+        return sorted;
+    }
+}
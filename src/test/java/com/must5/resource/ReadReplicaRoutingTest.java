@@ -0,0 +1,124 @@
+package com.must5.resource;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.matchesPattern;
+
+/**
+ * The test replica is the primary itself (lag 0, replayed position = current WAL position at
+ * the last check), so routing decisions only depend on the read-your-writes marker.
+ */
+@QuarkusTest
+class ReadReplicaRoutingTest {
+
+    @Test
+    void writesReturnLastWriteMarker() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(OrderFixtures.order("Replica Check", OrderFixtures.DATE))
+          .when().post("/orders")
+          .then()
+            .statusCode(201)
+            .header("X-Last-Write-LSN", matchesPattern("[0-9A-F]+/[0-9A-F]+"));
+    }
+
+    @Test
+    void readOnlyPostsReturnNoLastWriteMarker() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\":[1,2]}")
+          .when().post("/orders/lookup")
+          .then()
+            .statusCode(200)
+            .header("X-Last-Write-LSN", nullValue());
+    }
+
+    @Test
+    void readsGoToReplica() {
+        given()
+          .when().get("/orders?size=5&total=none")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("replica"))
+            .header("X-Last-Write-LSN", nullValue());
+    }
+
+    @Test
+    void readYourWritesStaysOnPrimary() {
+        // A WAL position the replica has not replayed yet
+        given()
+            .header("X-Last-Write-LSN", "FFFF/0")
+          .when().get("/orders?size=5&total=none")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("primary"));
+    }
+
+    @Test
+    void replayedWriteIsReadFromReplica() {
+        given()
+            .header("X-Last-Write-LSN", "0/0")
+          .when().get("/orders?size=5&total=none")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("replica"));
+    }
+
+    @Test
+    void reactiveReadsGoToReplica() {
+        String customer = "Replica Check " + UUID.randomUUID();
+        long id = OrderFixtures.create("/reactive/orders", customer, OrderFixtures.DATE,
+            OrderFixtures.item("Product A", 2, "10.00"));
+
+        given()
+          .when().get("/reactive/orders/" + id)
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("replica"))
+            .body("data.customerName", is(customer))
+            .body("data.items[0].subTotal", is(20.0f));
+
+        given()
+          .when().get("/reactive/orders/customers/" + customer + "?cursor=&total=exact")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("replica"))
+            .body("data.id", contains((int) id))
+            .body("paginate.total", is(1));
+
+        given()
+          .when().get("/reactive/orders?size=5&total=estimate&fields=id,totalAmount")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("replica"))
+            .body("data[0].items", nullValue());
+    }
+
+    @Test
+    void reactiveReadYourWritesStaysOnPrimary() {
+        given()
+            .header("X-Last-Write-LSN", "FFFF/0")
+          .when().get("/reactive/orders?size=5&total=none")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", is("primary"));
+    }
+
+    @Test
+    void inMemoryEndpointsAreNotRouted() {
+        given()
+          .when().get("/orders/customers/top")
+          .then()
+            .statusCode(200)
+            .header("X-Read-Source", nullValue());
+    }
+}
@@ -0,0 +1,76 @@
+package com.must5.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderResponse;
+import com.must5.entity.CustomerSpending;
+import com.must5.pagination.TotalMode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response objects shaped like real API responses, and the two mappers being compared:
+ * the plain bean serializers (configured like the Quarkus default mapper) and the same
+ * mapper with {@link ResponseSerializers}.
+ */
+final class ResponseFixtures {
+
+    private ResponseFixtures() {
+    }
+
+    static ObjectMapper beanMapper() {
+        return JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+
+    static ObjectMapper fastMapper() {
+        ObjectMapper mapper = beanMapper();
+        mapper.registerModule(ResponseSerializers.module());
+        return mapper;
+    }
+
+    static OrderResponse order(long id) {
+        List<OrderItemResponse> items = new ArrayList<>();
+        items.add(new OrderItemResponse(id * 10, "Laptop \"Pro\" 14", 1, new BigDecimal("15000000.00"), new BigDecimal("15000000.00")));
+        items.add(new OrderItemResponse(id * 10 + 1, "Mouse", 2, new BigDecimal("150000.50"), new BigDecimal("300001.00")));
+        items.add(new OrderItemResponse(id * 10 + 2, "Kabel USB-C", 3, new BigDecimal("25000"), new BigDecimal("75000")));
+        return new OrderResponse(id, "Budi Santoso", LocalDate.of(2025, 12, 4), new BigDecimal("15375001.00"), items,
+            LocalDateTime.of(2025, 12, 4, 9, 5, 7, 123_000_000), LocalDateTime.of(2025, 12, 4, 23, 59, 59));
+    }
+
+    static ApiResponse<OrderResponse> orderResponse() {
+        return new ApiResponse<>(200, "SUCCESS", "Order retrieved successfully", order(1));
+    }
+
+    static PaginatedApiResponse<OrderResponse> orderPage(int size) {
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            orders.add(order(i + 1));
+        }
+        return new PaginatedApiResponse<>(200, "SUCCESS", "Orders retrieved successfully", orders,
+            PaginatedApiResponse.PaginationInfo.offset(1234L, TotalMode.EXACT, 1, size, true));
+    }
+
+    static PaginatedApiResponse<CustomerSpending> spendingPage(int size) {
+        List<CustomerSpending> spendings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            CustomerSpending spending = new CustomerSpending("Customer " + i, new BigDecimal("1250000.75"));
+            spending.setTotalOrders(12L + i);
+            spending.setAverageOrderValue(new BigDecimal("104166.73"));
+            spending.setFirstOrderDate(LocalDate.of(2024, 1, 15));
+            spending.setLastOrderDate(LocalDate.of(2025, 11, 30));
+            spendings.add(spending);
+        }
+        return new PaginatedApiResponse<>(200, "SUCCESS", "Customer spending data retrieved successfully", spendings,
+            new PaginatedApiResponse.PaginationInfo(5000, 1, size, (5000 + size - 1) / size));
+    }
+}
@@ -0,0 +1,75 @@
+package com.must5.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.must5.dto.OrderResponse;
+import com.must5.entity.CustomerSpending;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean serializers (today's output path) against {@link ResponseSerializers} for the three
+ * response shapes that dominate the list endpoints. Started by ResponseSerializationBenchmarkTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper fastMapper;
+    private ApiResponse<OrderResponse> order;
+    private PaginatedApiResponse<OrderResponse> orderPage;
+    private PaginatedApiResponse<CustomerSpending> spendingPage;
+
+    @Setup
+    public void setUp() {
+        beanMapper = ResponseFixtures.beanMapper();
+        fastMapper = ResponseFixtures.fastMapper();
+        order = ResponseFixtures.orderResponse();
+        orderPage = ResponseFixtures.orderPage(100);
+        spendingPage = ResponseFixtures.spendingPage(100);
+    }
+
+    @Benchmark
+    public byte[] orderBean() throws Exception {
+        return beanMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderFast() throws Exception {
+        return fastMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderPageBean() throws Exception {
+        return beanMapper.writeValueAsBytes(orderPage);
+    }
+
+    @Benchmark
+    public byte[] orderPageFast() throws Exception {
+        return fastMapper.writeValueAsBytes(orderPage);
+    }
+
+    @Benchmark
+    public byte[] spendingPageBean() throws Exception {
+        return beanMapper.writeValueAsBytes(spendingPage);
+    }
+
+    @Benchmark
+    public byte[] spendingPageFast() throws Exception {
+        return fastMapper.writeValueAsBytes(spendingPage);
+    }
+}
@@ -0,0 +1,21 @@
+package com.must5.response;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link ResponseSerializationBenchmark} with JMH.
+ * Run with: ./mvnw test -Dtest=ResponseSerializationBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ResponseSerializationBenchmarkTest {
+
+    @Test
+    void beanVersusHandWrittenSerializers() throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(ResponseSerializationBenchmark.class.getName())
+            .build()).run();
+    }
+}
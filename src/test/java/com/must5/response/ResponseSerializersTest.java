@@ -0,0 +1,80 @@
+package com.must5.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderResponse;
+import com.must5.entity.CustomerSpending;
+import com.must5.pagination.TotalMode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseSerializersTest {
+
+    private final ObjectMapper beanMapper = ResponseFixtures.beanMapper();
+    private final ObjectMapper fastMapper = ResponseFixtures.fastMapper();
+
+    @Test
+    void fullOrderMatchesBeanSerializer() throws Exception {
+        assertSameJson(ResponseFixtures.orderResponse());
+        assertSameJson(ResponseFixtures.orderPage(3));
+    }
+
+    @Test
+    void sparseOrderSkipsNullFields() throws Exception {
+        OrderResponse sparse = new OrderResponse(7L, null, null, new BigDecimal("10.00"), null, null, null);
+        assertSameJson(new ApiResponse<>(200, "SUCCESS", "Order retrieved successfully", sparse));
+
+        OrderResponse withoutItems = new OrderResponse(8L, "Ani", LocalDate.of(2025, 1, 2), null, new ArrayList<>(),
+            LocalDateTime.of(2025, 1, 2, 3, 4, 5), null);
+        assertSameJson(withoutItems);
+    }
+
+    @Test
+    void itemsAndSpendingWriteNulls() throws Exception {
+        assertSameJson(new OrderItemResponse(null, null, null, null, null));
+        assertSameJson(new CustomerSpending("Citra", null));
+        assertSameJson(Arrays.asList(ResponseFixtures.order(1), null));
+        assertSameJson(ResponseFixtures.spendingPage(2));
+    }
+
+    @Test
+    void paginationVariantsMatch() throws Exception {
+        List<OrderResponse> orders = List.of(ResponseFixtures.order(1));
+        assertSameJson(new PaginatedApiResponse<>(200, "SUCCESS", "Orders retrieved successfully", orders,
+            PaginatedApiResponse.PaginationInfo.cursor(null, TotalMode.NONE, 20, "MjAyNS0xMi0wNHwx", true)));
+        assertSameJson(new PaginatedApiResponse<>(200, "SUCCESS", "Orders retrieved successfully", List.of(),
+            PaginatedApiResponse.PaginationInfo.offset(0L, TotalMode.ESTIMATE, 1, 20, false)));
+        assertSameJson(new PaginatedApiResponse<OrderResponse>(200, "SUCCESS", null, null, null));
+    }
+
+    @Test
+    void otherPayloadsAreDelegated() throws Exception {
+        assertSameJson(ApiResponse.badRequest("'from' must not be after 'to'"));
+        assertSameJson(ApiResponse.success(Map.of("deleted", 3)));
+        assertSameJson(ApiResponse.success(List.of(new CustomerSpending("Dewi", new BigDecimal("1.5")))));
+    }
+
+    @Test
+    void datesOutsideFourDigitYears() throws Exception {
+        for (int year : new int[] {1, 999, 2025, 9999, 10000}) {
+            CustomerSpending spending = new CustomerSpending("Eka", BigDecimal.ONE);
+            spending.setFirstOrderDate(LocalDate.of(year, 2, 3));
+            assertSameJson(spending);
+            assertSameJson(new OrderResponse(1L, "Eka", LocalDate.of(year, 2, 3), BigDecimal.ONE, null,
+                LocalDateTime.of(year, 12, 31, 0, 0, 9), null));
+        }
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertEquals(beanMapper.writeValueAsString(value), fastMapper.writeValueAsString(value));
+    }
+}
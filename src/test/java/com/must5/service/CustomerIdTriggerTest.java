@@ -0,0 +1,69 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * customer_id is filled by trg_orders_customer_id (V16); customer filters only find orders through it.
+ */
+@QuarkusTest
+class CustomerIdTriggerTest {
+
+    @Test
+    void blockingAndReactiveOrdersShareTheCustomer() {
+        String customer = "Customer Id Check " + UUID.randomUUID();
+        OrderFixtures.create(customer, OrderFixtures.DATE);
+        OrderFixtures.create("/reactive/orders", customer, OrderFixtures.DATE);
+
+        given()
+          .when().get("/orders/customers/" + customer)
+          .then()
+            .statusCode(200)
+            .body("paginate.total", is(2));
+    }
+
+    @Test
+    void retryAfterRolledBackChunkDoesNotReuseRolledBackCustomer() {
+        String customer = "Customer Id Check " + UUID.randomUUID();
+        // 1000 x 99,999,999.00 overflows orders.total_amount (DECIMAL(12,2)) and fails the whole chunk on insert
+        String overflowing = OrderFixtures.order("Directory Overflow", OrderFixtures.DATE,
+            OrderFixtures.item("Product A", 1000, "99999999.00"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + order(customer) + "," + order(customer) + "," + overflowing + "]")
+          .when().post("/orders/batch")
+          .then()
+            .statusCode(207)
+            .body("data.succeeded", is(2))
+            .body("data.failed", is(1))
+            .body("data.results[0].status", is("CREATED"))
+            .body("data.results[1].status", is("CREATED"))
+            .body("data.results[2].status", is("FAILED"));
+
+        // The customer row created by the rolled back chunk is gone, the retry created it again
+        given()
+            .contentType(ContentType.JSON)
+            .body("[" + order(customer) + "]")
+          .when().post("/orders/batch")
+          .then()
+            .statusCode(201);
+
+        given()
+          .when().get("/orders/customers/" + customer)
+          .then()
+            .statusCode(200)
+            .body("paginate.total", is(3));
+    }
+
+    private static String order(String customer) {
+        return OrderFixtures.order(customer, OrderFixtures.DATE);
+    }
+}
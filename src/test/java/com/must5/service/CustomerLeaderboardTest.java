@@ -0,0 +1,71 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import com.must5.event.RemoteOrderChanges;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Changes that arrive while a reconcile waits for orders.leaderboard.reconcile-settle: deltas are kept
+ * until a later reconcile, incomplete notifications only request that reconcile.
+ */
+@QuarkusTest
+class CustomerLeaderboardTest {
+
+    @Inject
+    CustomerLeaderboard leaderboard;
+
+    @Test
+    void changesDuringReconcileAreKeptAndCoalesced() throws Exception {
+        String customer = "Leaderboard Check " + UUID.randomUUID();
+        OrderFixtures.create(customer, OrderFixtures.DATE, OrderFixtures.item("Product A", 1, "100.00"));
+        awaitTrue(() -> hasTotal(customer, "100.00"), 5);
+
+        CompletableFuture<Void> running = CompletableFuture.runAsync(leaderboard::reconcile);
+        awaitTrue(leaderboard::isReconciling, 5);
+
+        // Not in customer_spending: the running reconcile cannot know whether its snapshot has it
+        leaderboard.onRemoteChanges(new RemoteOrderChanges("other-node", Set.of(),
+            Map.of(customer, new BigDecimal("25.00")), Map.of(), RemoteOrderChanges.Overflow.NONE));
+        for (int i = 0; i < 3; i++) {
+            assertTimeout(Duration.ofMillis(500), () -> leaderboard.onRemoteChanges(
+                RemoteOrderChanges.overflow("other-node", RemoteOrderChanges.Overflow.CREATES)));
+        }
+        assertTrue(leaderboard.isReconcileRequested());
+
+        running.get(10, TimeUnit.SECONDS);
+        assertTrue(hasTotal(customer, "125.00"));
+
+        // One reconcile serves all three requests and corrects the customer from the table
+        leaderboard.reconcileIfRequested();
+        awaitTrue(() -> !leaderboard.isReconcileRequested() && !leaderboard.isReconciling()
+            && hasTotal(customer, "100.00"), 10);
+    }
+
+    private boolean hasTotal(String customer, String total) {
+        return leaderboard.rankOf(customer)
+            .map(rank -> rank.getTotalSpending().compareTo(new BigDecimal(total)) == 0)
+            .orElse(false);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+}
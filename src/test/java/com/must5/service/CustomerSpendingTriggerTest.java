@@ -0,0 +1,98 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * customer_spending is maintained by trg_orders_customer_spending (V12), so these tests write through
+ * the API and read the aggregate table directly. Every test uses its own customer.
+ */
+@QuarkusTest
+class CustomerSpendingTriggerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 4);
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void createsAddUpOnBothApis() throws SQLException {
+        String customer = "Spending Check " + UUID.randomUUID();
+        create("/orders", customer, DATE, "10.00");
+        create("/reactive/orders", customer, DATE.plusDays(3), "25.00");
+        create("/orders", customer, DATE.minusDays(1), "5.50");
+
+        assertEquals(new Spending(3, new BigDecimal("40.50"), new BigDecimal("13.50"), DATE.minusDays(1), DATE.plusDays(3)),
+            spending(customer));
+    }
+
+    @Test
+    void deletingTheLastOrderMovesTheDateRange() throws SQLException {
+        String customer = "Spending Check " + UUID.randomUUID();
+        long first = create("/orders", customer, DATE, "10.00");
+        create("/orders", customer, DATE.plusDays(1), "20.00");
+        long last = create("/orders", customer, DATE.plusDays(2), "30.00");
+
+        delete(last);
+        assertEquals(new Spending(2, new BigDecimal("30.00"), new BigDecimal("15.00"), DATE, DATE.plusDays(1)),
+            spending(customer));
+
+        delete(first);
+        assertEquals(new Spending(1, new BigDecimal("20.00"), new BigDecimal("20.00"), DATE.plusDays(1), DATE.plusDays(1)),
+            spending(customer));
+    }
+
+    @Test
+    void deletingEveryOrderRemovesTheCustomer() throws SQLException {
+        String customer = "Spending Check " + UUID.randomUUID();
+        long order = create("/reactive/orders", customer, DATE, "10.00");
+
+        delete(order);
+
+        assertNull(spending(customer));
+    }
+
+    private static long create(String path, String customer, LocalDate date, String price) {
+        return OrderFixtures.create(path, customer, date, OrderFixtures.item("Product A", 1, price));
+    }
+
+    private static void delete(long id) {
+        given()
+          .when().delete("/orders/" + id)
+          .then()
+            .statusCode(204);
+    }
+
+    private Spending spending(String customer) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT total_orders, total_spending, average_order_value, first_order_date, last_order_date "
+                     + "FROM customer_spending WHERE customer_name = ?")) {
+            statement.setString(1, customer);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next()
+                    ? new Spending(rows.getLong(1), rows.getBigDecimal(2), rows.getBigDecimal(3),
+                        rows.getDate(4).toLocalDate(), rows.getDate(5).toLocalDate())
+                    : null;
+            }
+        }
+    }
+
+    private record Spending(long orders, BigDecimal total, BigDecimal average, LocalDate first, LocalDate last) {
+    }
+}
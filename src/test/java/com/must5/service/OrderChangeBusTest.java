@@ -0,0 +1,178 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The second node is simulated with plain SQL on the same database: its deletes go straight
+ * to the table and its notifications are sent with pg_notify.
+ */
+@QuarkusTest
+class OrderChangeBusTest {
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    OrderResponseCache orderCache;
+
+    @Inject
+    CustomerLeaderboard leaderboard;
+
+    @Test
+    void burstOfLocalWritesIsPublishedAsOneNotification() throws Exception {
+        String customer = "Bus Check " + UUID.randomUUID();
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + OrderChangeBus.CHANNEL);
+            }
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("[" + order(customer) + "," + order(customer) + "," + order(customer) + "]")
+              .when().post("/orders/batch")
+              .then()
+                .statusCode(201);
+
+            List<String> payloads = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (System.nanoTime() < deadline) {
+                PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(200);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        if (notification.getParameter().contains(customer)) {
+                            payloads.add(notification.getParameter());
+                        }
+                    }
+                }
+            }
+
+            assertEquals(1, payloads.size(), payloads.toString());
+            assertTrue(payloads.get(0).contains("\"" + customer + "\":30"), payloads.get(0));
+        }
+    }
+
+    @Test
+    void largeBurstIsSplitInsteadOfOverflowing() throws Exception {
+        String prefix = "Bus Split " + UUID.randomUUID() + " ";
+        int orders = 400;
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + OrderChangeBus.CHANNEL);
+            }
+
+            List<String> batch = new ArrayList<>();
+            for (int i = 0; i < orders; i++) {
+                batch.add(order(prefix + i));
+            }
+            given()
+                .contentType(ContentType.JSON)
+                .body("[" + String.join(",", batch) + "]")
+              .when().post("/orders/batch")
+              .then()
+                .statusCode(201);
+
+            List<String> payloads = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            while (System.nanoTime() < deadline) {
+                PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(200);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        if (notification.getParameter().contains(prefix)) {
+                            payloads.add(notification.getParameter());
+                        }
+                    }
+                }
+            }
+
+            assertTrue(payloads.size() > 1, payloads.toString());
+            int customers = 0;
+            for (String payload : payloads) {
+                assertTrue(payload.contains("\"overflow\":\"NONE\""), payload);
+                customers += payload.split(Pattern.quote(prefix), -1).length - 1;
+            }
+            assertEquals(orders, customers);
+        }
+    }
+
+    @Test
+    void deleteOnAnotherNodeEvictsCachedOrder() throws Exception {
+        long id = OrderFixtures.create("Bus Check " + UUID.randomUUID(), OrderFixtures.DATE);
+        given()
+          .when().get("/orders/" + id)
+          .then()
+            .statusCode(200);
+        assertTrue(orderCache.get(id).isPresent());
+
+        execute("DELETE FROM orders WHERE id = ?", id);
+        notifyFromOtherNode("{\"node\":\"other-node\",\"deletedOrderIds\":[" + id + "],"
+            + "\"spendingDeltas\":{},\"productQuantities\":{},\"overflow\":\"NONE\"}");
+
+        awaitTrue(() -> orderCache.get(id).isEmpty());
+        given()
+          .when().get("/orders/" + id)
+          .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void spendingOnAnotherNodeUpdatesLeaderboard() throws Exception {
+        String customer = "Bus Check " + UUID.randomUUID();
+        notifyFromOtherNode("{\"node\":\"other-node\",\"deletedOrderIds\":[],"
+            + "\"spendingDeltas\":{\"" + customer + "\":125.50},\"productQuantities\":{},\"overflow\":\"NONE\"}");
+
+        awaitTrue(() -> leaderboard.rankOf(customer).isPresent());
+        assertEquals(0, new BigDecimal("125.50").compareTo(leaderboard.rankOf(customer).get().getTotalSpending()));
+    }
+
+    private void notifyFromOtherNode(String payload) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, OrderChangeBus.CHANNEL);
+            statement.setString(2, payload);
+            statement.execute();
+        }
+    }
+
+    private void execute(String sql, long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+
+    private static String order(String customer) {
+        return OrderFixtures.order(customer, OrderFixtures.DATE);
+    }
+}
@@ -0,0 +1,31 @@
+package com.must5.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderFieldsTest {
+
+    @Test
+    void listingEveryFieldIsTheFullFieldset() {
+        OrderFields listed = OrderFields.fromParams("updatedAt,createdAt,totalAmount,orderDate,customerName,id", "items");
+
+        assertEquals(OrderFields.ALL, listed);
+        assertEquals(OrderFields.ALL.hashCode(), listed.hashCode());
+        assertTrue(listed.isAll());
+        assertTrue(OrderFields.fromParams(null, null).isAll());
+    }
+
+    @Test
+    void sparseFieldsetsCompareByContent() {
+        OrderFields sparse = OrderFields.fromParams("totalAmount,customerName", null);
+
+        assertEquals(OrderFields.fromParams("customerName, totalAmount", ""), sparse);
+        assertNotEquals(OrderFields.fromParams("customerName,totalAmount", "items"), sparse);
+        assertFalse(sparse.isAll());
+        assertFalse(OrderFields.fromParams(String.join(",", OrderFields.PROPERTIES), null).isAll());
+    }
+}
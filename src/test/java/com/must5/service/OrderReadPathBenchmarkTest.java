@@ -0,0 +1,97 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import com.must5.dto.OrderItemResponse;
+import com.must5.dto.OrderResponse;
+import com.must5.entity.Order;
+import com.must5.pagination.OrderSortField;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.must5.OrderFixtures.item;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares loading a page of 100 orders as managed entities (then copied into DTOs)
+ * with the projection read path of {@link OrderQueryService}.
+ * Results are published as report entries (TestReporter) and end up in the Surefire reports.
+ * Run with: ./mvnw test -Dtest=OrderReadPathBenchmarkTest -Dbenchmark=true
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderReadPathBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Inject
+    OrderQueryService orderQueries;
+
+    @BeforeEach
+    void seedOrders() {
+        long missing = PAGE_SIZE - QuarkusTransaction.requiringNew().call(Order::count);
+        for (int i = 0; i < missing; i++) {
+            OrderFixtures.create("Benchmark Customer", OrderFixtures.DATE,
+                item("Product A", 1, "10.00"), item("Product B", 2, "5.00"), item("Product C", 3, "2.50"));
+        }
+    }
+
+    @Test
+    void entityVersusProjection(TestReporter reporter) {
+        Result entities = measure(() -> QuarkusTransaction.requiringNew().call(() ->
+            Order.withItems(Order.findAll(Sort.descending("id")).range(0, PAGE_SIZE - 1).list()).stream()
+                .map(OrderReadPathBenchmarkTest::toResponse)
+                .collect(Collectors.toList())));
+        Result projection = measure(() -> QuarkusTransaction.requiringNew().call(() ->
+            orderQueries.findPage(null, OrderSortField.ID, true, 0, PAGE_SIZE)));
+
+        reporter.publishEntry("entities", entities.toString());
+        reporter.publishEntry("projection", projection.toString());
+    }
+
+    private Result measure(Supplier<List<OrderResponse>> page) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(PAGE_SIZE, page.get().size());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            page.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(elapsed / 1_000.0 / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static OrderResponse toResponse(Order order) {
+        List<OrderItemResponse> items = order.getItems().stream()
+            .map(item -> new OrderItemResponse(item.id, item.getProductName(), item.getQuantity(),
+                item.getPrice(), item.getSubTotal()))
+            .collect(Collectors.toList());
+        return new OrderResponse(order.id, order.getCustomerName(), order.getOrderDate(), order.getTotalAmount(),
+            items, order.getCreatedAt(), order.getUpdatedAt());
+    }
+
+    private record Result(double micros, long bytes) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.1f us/page, %d bytes/page", micros, bytes);
+        }
+    }
+}
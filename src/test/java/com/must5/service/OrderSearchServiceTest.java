@@ -0,0 +1,102 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every test searches for a random token it put in the names, so orders of other tests never match.
+ */
+@QuarkusTest
+class OrderSearchServiceTest {
+
+    @Test
+    void matchesIgnoreCaseAndAccents() {
+        String token = token();
+        long customerMatch = create("Jürgen Müller " + token, "Product A");
+        long productMatch = create("Search Check", "Crème Brûlée " + token);
+
+        assertEquals(List.of(customerMatch), ids(search("MULLER " + token.toUpperCase(), 20, null)));
+        assertEquals(List.of(productMatch), ids(search("creme brulee " + token, 20, null)));
+    }
+
+    @Test
+    void likeWildcardsInTheTermMatchLiterally() {
+        String token = token();
+        long percent = create("Promo 50% " + token, "Product A");
+        create("Promo 500 " + token, "Product A");
+        long underscore = create("snake_case " + token, "Product A");
+        create("snakeXcase " + token, "Product A");
+
+        assertEquals(List.of(percent), ids(search("50% " + token, 20, null)));
+        assertEquals(List.of(underscore), ids(search("snake_case " + token, 20, null)));
+    }
+
+    @Test
+    void cursorContinuesWhereThePreviousPageEnded() {
+        String token = token();
+        Set<Long> created = Set.of(
+            create("Paging " + token + " one", "Product A"),
+            create("Paging " + token + " two", "Product A"),
+            create("Paging " + token + " three", "Product A"));
+
+        JsonPath first = search("paging " + token, 2, null);
+        assertEquals(2, ids(first).size());
+        assertTrue(first.getBoolean("paginate.hasNext"));
+        String cursor = first.getString("paginate.nextCursor");
+        assertNotNull(cursor);
+
+        JsonPath second = search("paging " + token, 2, cursor);
+        assertEquals(1, ids(second).size());
+        assertFalse(second.getBoolean("paginate.hasNext"));
+
+        List<Long> all = new ArrayList<>(ids(first));
+        all.addAll(ids(second));
+        assertEquals(created, Set.copyOf(all));
+        assertEquals(3, all.size());
+    }
+
+    @Test
+    void escapeLikeEscapesWildcardsAndBackslash() {
+        assertEquals("50\\% a\\_b c\\\\d", OrderSearchService.escapeLike("50% a_b c\\d"));
+    }
+
+    private static JsonPath search(String term, int size, String cursor) {
+        var request = given()
+            .queryParam("q", term)
+            .queryParam("size", size);
+        if (cursor != null) {
+            request.queryParam("cursor", cursor);
+        }
+        return request
+          .when().get("/orders/search")
+          .then()
+            .statusCode(200)
+            .extract().jsonPath();
+    }
+
+    private static List<Long> ids(JsonPath page) {
+        return page.getList("data.order.id", Long.class);
+    }
+
+    private static long create(String customer, String product) {
+        return OrderFixtures.create(customer, OrderFixtures.DATE, OrderFixtures.item(product, 1, "10.00"));
+    }
+
+    // Letters only, so the token has trigrams of its own and no LIKE wildcards
+    private static String token() {
+        return UUID.randomUUID().toString().replaceAll("[^a-f]", "");
+    }
+}
@@ -0,0 +1,76 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import com.must5.entity.Order;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Repeat-read latency of #Order.findByCustomerName plus the items of every order, with the
+ * second-level and query caches in use and with both bypassed (CacheMode.IGNORE).
+ * Results are published as report entries (TestReporter) and end up in the Surefire reports.
+ * Run with: ./mvnw test -Dtest=OrderSecondLevelCacheBenchmarkTest -Dbenchmark=true
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderSecondLevelCacheBenchmarkTest {
+
+    private static final String CUSTOMER = "L2 Benchmark Customer";
+    private static final int ORDERS = 50;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Inject
+    EntityManager entityManager;
+
+    @BeforeEach
+    void seedOrders() {
+        long missing = ORDERS - QuarkusTransaction.requiringNew().call(() -> Order.countByCustomerName(CUSTOMER));
+        for (int i = 0; i < missing; i++) {
+            OrderFixtures.create(CUSTOMER, OrderFixtures.DATE,
+                OrderFixtures.item("Product A", 1, "10.00"), OrderFixtures.item("Product B", 2, "5.00"));
+        }
+    }
+
+    @Test
+    void cachedVersusUncached(TestReporter reporter) {
+        double uncached = measure(() -> read(CacheMode.IGNORE));
+        double cached = measure(() -> read(CacheMode.NORMAL));
+
+        reporter.publishEntry("without L2/query cache", String.format(Locale.ROOT, "%.1f us/read", uncached));
+        reporter.publishEntry("with L2/query cache", String.format(Locale.ROOT, "%.1f us/read", cached));
+    }
+
+    private int read(CacheMode cacheMode) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            entityManager.unwrap(Session.class).setCacheMode(cacheMode);
+            return Order.findByCustomerName(CUSTOMER).stream()
+                .mapToInt(order -> order.getItems().size())
+                .sum();
+        });
+    }
+
+    private double measure(IntSupplier read) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(ORDERS * 2, read.getAsInt());
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.getAsInt();
+        }
+        return (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    }
+}
@@ -0,0 +1,118 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static com.must5.OrderFixtures.DATE;
+import static com.must5.OrderFixtures.item;
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * product_sales_daily is maintained by triggers (V14), so these tests write through the API and
+ * read the rollup table directly. Every test uses its own product name.
+ */
+@QuarkusTest
+class ProductSalesRollupTest {
+
+    @Inject
+    DataSource dataSource;
+
+    @Test
+    void insertAddsEveryProductOfTheOrder() throws SQLException {
+        String first = "Rollup Check " + UUID.randomUUID();
+        String second = "Rollup Check " + UUID.randomUUID();
+        create(DATE, item(first, 2, "5.00"), item(second, 1, "7.50"));
+        create(DATE, item(first, 3, "5.00"));
+        create(DATE.plusDays(1), item(first, 1, "5.00"));
+
+        assertEquals(new Sales(5, new BigDecimal("25.00"), 2), sales(first, DATE));
+        assertEquals(new Sales(1, new BigDecimal("7.50"), 1), sales(second, DATE));
+        assertEquals(new Sales(1, new BigDecimal("5.00"), 1), sales(first, DATE.plusDays(1)));
+        assertNull(sales(second, DATE.plusDays(1)));
+    }
+
+    @Test
+    void deleteRemovesOnlyThatOrder() throws SQLException {
+        String product = "Rollup Check " + UUID.randomUUID();
+        long first = create(DATE, item(product, 2, "5.00"));
+        create(DATE, item(product, 1, "5.00"));
+
+        delete(first);
+
+        assertEquals(new Sales(1, new BigDecimal("5.00"), 1), sales(product, DATE));
+    }
+
+    @Test
+    void movingTheOrderDateMovesItsSales() throws SQLException {
+        String product = "Rollup Check " + UUID.randomUUID();
+        long moved = create(DATE, item(product, 1, "5.00"), item(product, 2, "5.00"));
+        create(DATE, item(product, 4, "5.00"));
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("UPDATE orders SET order_date = ? WHERE id = ?")) {
+            statement.setDate(1, Date.valueOf(DATE.plusDays(1)));
+            statement.setLong(2, moved);
+            assertEquals(1, statement.executeUpdate());
+        }
+
+        assertEquals(new Sales(4, new BigDecimal("20.00"), 1), sales(product, DATE));
+        assertEquals(new Sales(3, new BigDecimal("15.00"), 1), sales(product, DATE.plusDays(1)));
+    }
+
+    @Test
+    void duplicateProductLinesCountTheOrderOnce() throws SQLException {
+        String product = "Rollup Check " + UUID.randomUUID();
+        // Both lines of the first order go in with one multi-row INSERT
+        long first = create(DATE, item(product, 1, "10.00"), item(product, 2, "10.00"));
+        long second = create(DATE, item(product, 1, "10.00"));
+
+        assertEquals(new Sales(4, new BigDecimal("40.00"), 2), sales(product, DATE));
+
+        delete(first);
+        assertEquals(new Sales(1, new BigDecimal("10.00"), 1), sales(product, DATE));
+
+        delete(second);
+        assertNull(sales(product, DATE));
+    }
+
+    private static long create(LocalDate date, String... items) {
+        return OrderFixtures.create("Rollup Check", date, items);
+    }
+
+    private static void delete(long id) {
+        given()
+          .when().delete("/orders/" + id)
+          .then()
+            .statusCode(204);
+    }
+
+    private Sales sales(String product, LocalDate date) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT total_quantity, revenue, order_count FROM product_sales_daily "
+                     + "WHERE product_name = ? AND order_date = ?")) {
+            statement.setString(1, product);
+            statement.setDate(2, Date.valueOf(date));
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() ? new Sales(rows.getLong(1), rows.getBigDecimal(2), rows.getLong(3)) : null;
+            }
+        }
+    }
+
+    private record Sales(long quantity, BigDecimal revenue, long orders) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.must5.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RankTreeTest {
+
+    @Test
+    void ranksByTotalWithTiesSharingARank() {
+        RankTree tree = new RankTree();
+        tree.insert("Budi", new BigDecimal("300.00"));
+        tree.insert("Ani", new BigDecimal("500.00"));
+        tree.insert("Citra", new BigDecimal("300.00"));
+        tree.insert("Dewi", new BigDecimal("100.00"));
+
+        assertEquals(0, tree.countHigher(new BigDecimal("500.00")));
+        assertEquals(1, tree.countHigher(new BigDecimal("300.00")));
+        assertEquals(3, tree.countHigher(new BigDecimal("100.00")));
+        assertEquals(List.of("Ani", "Budi", "Citra"),
+            tree.top(3).stream().map(RankTree.Entry::customerName).toList());
+    }
+
+    @Test
+    void removeKeepsSubtreeSizesConsistent() {
+        RankTree tree = new RankTree();
+        Map<String, BigDecimal> totals = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            String name = "customer-" + random.nextInt(300);
+            BigDecimal previous = totals.get(name);
+            if (previous != null) {
+                tree.remove(name, previous);
+            }
+            BigDecimal total = BigDecimal.valueOf(random.nextInt(50_000), 2);
+            totals.put(name, total);
+            tree.insert(name, total);
+        }
+
+        assertEquals(totals.size(), tree.size());
+        for (BigDecimal total : totals.values()) {
+            long expected = totals.values().stream().filter(other -> other.compareTo(total) > 0).count();
+            assertEquals(expected, tree.countHigher(total));
+        }
+    }
+}
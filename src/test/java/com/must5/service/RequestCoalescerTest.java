@@ -0,0 +1,107 @@
+package com.must5.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    @Inject
+    RequestCoalescer coalescer;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> inRequest(() -> coalescer.execute("coalescer-test", "hot", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return "value";
+                }))));
+            }
+
+            // Hold the leader until every other caller has joined it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (count("shared") < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(1, count("leader"));
+            assertEquals(CALLERS - 1, count("shared"));
+
+            // Completed calls are not cached
+            assertEquals("again", inRequest(() -> coalescer.execute("coalescer-test", "hot", () -> "again")));
+            assertEquals(2, count("leader"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failuresAreRethrownAndReleaseTheKey() throws Exception {
+        IllegalStateException failure = new IllegalStateException("boom");
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> inRequest(() -> coalescer.execute("coalescer-failure-test", "failing", () -> {
+                throw failure;
+            })));
+        assertSame(failure, thrown);
+        // The failed call released its key
+        assertEquals("ok", inRequest(() -> coalescer.execute("coalescer-failure-test", "failing", () -> "ok")));
+    }
+
+    private double count(String outcome) {
+        return registry.counter("orders.coalescing.calls", "endpoint", "coalescer-test", "outcome", outcome).count();
+    }
+
+    private static <T> T inRequest(Callable<T> work) throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            return work.call();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
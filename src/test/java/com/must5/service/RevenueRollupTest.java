@@ -0,0 +1,100 @@
+package com.must5.service;
+
+import com.must5.OrderFixtures;
+import com.must5.dto.RevenueBucket;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * daily_revenue and period_customers are maintained by the trigger of V13, so orders are written
+ * through the API and read back with RevenueAnalyticsService. The rollups are shared by all orders
+ * of a date, so the test picks a random month nobody else writes to.
+ */
+@QuarkusTest
+class RevenueRollupTest {
+
+    @Inject
+    RevenueAnalyticsService revenueAnalytics;
+
+    @Test
+    void dayWeekAndMonthTotalsFollowCreatesAndDeletes() {
+        LocalDate month = LocalDate.of(2100 + ThreadLocalRandom.current().nextInt(800),
+            1 + ThreadLocalRandom.current().nextInt(12), 1);
+        // First and third Monday, both weeks lie completely inside the month
+        LocalDate monday = month.with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY));
+        LocalDate tuesday = monday.plusDays(1);
+        LocalDate laterMonday = monday.plusWeeks(2);
+        String first = "Revenue Check " + UUID.randomUUID();
+        String second = "Revenue Check " + UUID.randomUUID();
+
+        create(first, monday);
+        create(first, tuesday);
+        long secondOnTuesday = create(second, tuesday);
+        long firstLater = create(first, laterMonday);
+
+        LocalDate end = month.plusMonths(1).minusDays(1);
+        assertEquals(List.of(bucket(monday, 1, 1), bucket(tuesday, 2, 2), bucket(laterMonday, 1, 1)),
+            revenue(month, end, RevenueAnalyticsService.Granularity.DAY));
+        assertEquals(List.of(bucket(monday, 3, 2), bucket(laterMonday, 1, 1)),
+            revenue(month, end, RevenueAnalyticsService.Granularity.WEEK));
+        assertEquals(List.of(bucket(month, 4, 2)), revenue(month, end, RevenueAnalyticsService.Granularity.MONTH));
+
+        delete(secondOnTuesday);
+        delete(firstLater);
+
+        assertTotalsAfterDelete(month, end, monday, tuesday);
+        // Same answer once the deltas are folded into the rollups
+        revenueAnalytics.fold();
+        assertTotalsAfterDelete(month, end, monday, tuesday);
+    }
+
+    private void assertTotalsAfterDelete(LocalDate month, LocalDate end, LocalDate monday, LocalDate tuesday) {
+        assertEquals(List.of(bucket(monday, 1, 1), bucket(tuesday, 1, 1)),
+            revenue(month, end, RevenueAnalyticsService.Granularity.DAY));
+        assertEquals(List.of(bucket(monday, 2, 1)), revenue(month, end, RevenueAnalyticsService.Granularity.WEEK));
+        assertEquals(List.of(bucket(month, 2, 1)), revenue(month, end, RevenueAnalyticsService.Granularity.MONTH));
+    }
+
+    private List<Bucket> revenue(LocalDate from, LocalDate to, RevenueAnalyticsService.Granularity granularity) {
+        return QuarkusTransaction.requiringNew().call(() ->
+            revenueAnalytics.revenue(from, to, granularity).stream().map(Bucket::of).toList());
+    }
+
+    // Every order is one item of 10.00
+    private static Bucket bucket(LocalDate periodStart, long orders, long customers) {
+        return new Bucket(periodStart, orders, BigDecimal.TEN.multiply(BigDecimal.valueOf(orders)).setScale(2), customers);
+    }
+
+    private static long create(String customer, LocalDate date) {
+        return OrderFixtures.create(customer, date, OrderFixtures.item("Revenue Check", 1, "10.00"));
+    }
+
+    private static void delete(long id) {
+        given()
+          .when().delete("/orders/" + id)
+          .then()
+            .statusCode(204);
+    }
+
+    // RevenueBucket has no equals, and BigDecimal equality depends on the scale
+    private record Bucket(LocalDate periodStart, long orders, BigDecimal revenue, long customers) {
+
+        static Bucket of(RevenueBucket bucket) {
+            return new Bucket(bucket.getPeriodStart(), bucket.getTotalOrders(), bucket.getRevenue().setScale(2),
+                bucket.getDistinctCustomers());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.must5.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingTest {
+
+    @Test
+    void countsAreExactWhileEveryItemFits() {
+        SpaceSaving sketch = new SpaceSaving(3);
+        sketch.add("A", 5);
+        sketch.add("B", 2);
+        sketch.add("A", 1);
+
+        assertEquals(List.of(new SpaceSaving.Estimate("A", 6, 0), new SpaceSaving.Estimate("B", 2, 0)),
+            sketch.top(10));
+    }
+
+    @Test
+    void newItemReplacesSmallestCounterAndInheritsItsCount() {
+        SpaceSaving sketch = new SpaceSaving(2);
+        sketch.add("A", 5);
+        sketch.add("B", 3);
+        sketch.add("C", 1);
+
+        assertEquals(List.of(new SpaceSaving.Estimate("A", 5, 0), new SpaceSaving.Estimate("C", 4, 3)),
+            sketch.top(10));
+        assertEquals(List.of(new SpaceSaving.Estimate("A", 5, 0)), sketch.top(1));
+    }
+
+    @Test
+    void estimatesStayWithinTheirErrorBounds() {
+        int capacity = 20;
+        SpaceSaving sketch = new SpaceSaving(capacity);
+        Map<String, Long> actual = new HashMap<>();
+        Random random = new Random(42);
+        long total = 0;
+        for (int i = 0; i < 20_000; i++) {
+            // Skewed towards low product numbers, with a long tail
+            String item = "product-" + (int) Math.floor(Math.pow(random.nextDouble(), 3) * 500);
+            long weight = 1 + random.nextInt(3);
+            sketch.add(item, weight);
+            actual.merge(item, weight, Long::sum);
+            total += weight;
+        }
+
+        List<SpaceSaving.Estimate> estimates = sketch.top(capacity);
+        assertEquals(capacity, estimates.size());
+        for (SpaceSaving.Estimate estimate : estimates) {
+            long count = actual.getOrDefault(estimate.item(), 0L);
+            assertTrue(estimate.count() >= count, estimate.toString());
+            assertTrue(estimate.count() - estimate.maxError() <= count, estimate.toString());
+            assertTrue(estimate.maxError() <= total / capacity, estimate.toString());
+        }
+        long threshold = total / capacity;
+        actual.forEach((item, count) -> {
+            if (count > threshold) {
+                assertTrue(estimates.stream().anyMatch(estimate -> estimate.item().equals(item)), item);
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.must5.service;
+
+import com.must5.event.RemoteOrderChanges;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrendingProductsTest {
+
+    @Test
+    void rotationKeepsOnePreviousWindow() {
+        TrendingProducts trending = new TrendingProducts();
+        trending.capacity = 10;
+
+        sell(trending, Map.of("A", 5));
+        assertEquals(List.of("A=5"), top(trending));
+
+        trending.rotate();
+        assertEquals(List.of("A=5"), top(trending));
+
+        sell(trending, Map.of("A", 2, "B", 3));
+        assertEquals(List.of("A=7", "B=3"), top(trending));
+
+        trending.rotate();
+        assertEquals(List.of("B=3", "A=2"), top(trending));
+
+        trending.rotate();
+        assertEquals(List.of(), top(trending));
+    }
+
+    private static void sell(TrendingProducts trending, Map<String, Integer> quantities) {
+        trending.onRemoteChanges(new RemoteOrderChanges("other-node", Set.of(), Map.of(), quantities,
+            RemoteOrderChanges.Overflow.NONE));
+    }
+
+    private static List<String> top(TrendingProducts trending) {
+        return trending.top(10).stream()
+            .map(product -> product.getProductName() + "=" + product.getEstimatedQuantity())
+            .toList();
+    }
+}